@@ -0,0 +1,109 @@
+package com.springbatch.benchmark;
+
+import com.springbatch.entity.AlertLevel;
+import com.springbatch.entity.AlertMetric;
+import com.springbatch.entity.AlertOperator;
+import com.springbatch.entity.AlertRule;
+import com.springbatch.entity.AlertType;
+import com.springbatch.entity.WeatherData;
+import com.springbatch.service.CompiledAlertRules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 규칙 평가 벤치마크 (CompiledAlertRules)
+ *
+ * - evaluate: 미리 추출한 측정값 하나를 모든 규칙과 비교
+ * - extractAndEvaluate: WeatherData에서 측정값을 꺼내는 비용까지 포함 (AlertProcessor 경로)
+ *
+ * 연산 1회 = 측정값 1건 평가이므로 Throughput 결과는 evaluations/s,
+ * gc 프로파일러의 gc.alloc.rate.norm 으로 평가 중 할당이 없는지 확인할 수 있습니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AlertRuleEvaluationBenchmark {
+
+    private static final String[] CITIES = {"Seoul", "Busan", "Incheon", "Daegu", "Daejeon", "Gwangju", "Ulsan", "Suwon"};
+
+    // 측정값 묶음 수 (2의 거듭제곱, 분기 예측이 한 값에 고정되지 않도록 여러 건을 돌아가며 평가)
+    private static final int READINGS = 1024;
+
+    @Param({"10", "120", "500"})
+    private int ruleCount;
+
+    private CompiledAlertRules rules;
+    private WeatherData[] weatherData;
+    private double[][] values;
+    private double[] buffer;
+    private int[] matches;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        AlertType[] types = AlertType.values();
+        AlertLevel[] levels = AlertLevel.values();
+        AlertMetric[] metrics = AlertMetric.values();
+
+        // 절반은 모든 도시, 절반은 특정 도시에 적용되는 규칙
+        List<AlertRule> ruleList = new ArrayList<>(ruleCount);
+        for (int i = 0; i < ruleCount; i++) {
+            AlertRule rule = AlertRule.of(types[random.nextInt(types.length)], levels[random.nextInt(levels.length)],
+                    metrics[random.nextInt(metrics.length)],
+                    random.nextBoolean() ? AlertOperator.GREATER_OR_EQUAL : AlertOperator.LESS_OR_EQUAL,
+                    random.nextDouble() * 60 - 15);
+            if (i % 2 == 1) {
+                rule.setCityCode(CITIES[random.nextInt(CITIES.length)]);
+            }
+            ruleList.add(rule);
+        }
+        rules = new CompiledAlertRules(ruleList);
+
+        weatherData = new WeatherData[READINGS];
+        values = new double[READINGS][];
+        for (int i = 0; i < READINGS; i++) {
+            WeatherData data = new WeatherData();
+            data.setCityCode(CITIES[i % CITIES.length]);
+            data.setTemperature(random.nextDouble() * 50 - 15);
+            data.setFeelsLike(data.getTemperature() + random.nextDouble() * 4 - 2);
+            data.setHumidity(random.nextInt(101));
+            data.setWindSpeed(random.nextDouble() * 25);
+            data.setRainfall(random.nextInt(4) == 0 ? random.nextDouble() * 80 : null);
+            data.setSnowfall(random.nextInt(10) == 0 ? random.nextDouble() * 10 : null);
+            data.setVisibility(random.nextInt(10001));
+            data.setTemperatureChange(random.nextDouble() * 30 - 15);
+            weatherData[i] = data;
+
+            values[i] = CompiledAlertRules.newValueBuffer();
+            CompiledAlertRules.extract(data, values[i]);
+        }
+
+        buffer = CompiledAlertRules.newValueBuffer();
+        matches = new int[rules.size()];
+    }
+
+    @Benchmark
+    public int evaluate() {
+        int index = next++ & (READINGS - 1);
+        return rules.evaluate(values[index], weatherData[index].getCityCode(), matches);
+    }
+
+    @Benchmark
+    public int extractAndEvaluate() {
+        WeatherData data = weatherData[next++ & (READINGS - 1)];
+        CompiledAlertRules.extract(data, buffer);
+        return rules.evaluate(buffer, data.getCityCode(), matches);
+    }
+}
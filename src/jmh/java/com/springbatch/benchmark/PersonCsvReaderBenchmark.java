@@ -0,0 +1,95 @@
+package com.springbatch.benchmark;
+
+import com.springbatch.batch.MappedPersonCsvItemReader;
+import com.springbatch.dto.PersonDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Person CSV 리더 비교 벤치마크
+ *
+ * - flatFileReader: BatchConfig.reader()와 같은 FlatFileItemReader + DelimitedLineTokenizer + BeanWrapperFieldSetMapper
+ * - mappedReader: MappedPersonCsvItemReader (메모리 맵 + 바이트 직접 토큰화)
+ *
+ * 연산 1회 = 1행이므로 Throughput 결과는 rows/s, gc 프로파일러의 gc.alloc.rate.norm 은 행당 할당 바이트입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PersonCsvReaderBenchmark {
+
+    private static final int ROWS = 100_000;
+
+    private Path csvFile;
+
+    @Setup(Level.Trial)
+    public void createFile() throws IOException {
+        csvFile = Files.createTempFile("person-benchmark", ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(csvFile, StandardCharsets.UTF_8)) {
+            writer.write("firstName,lastName,email\n");
+            for (int i = 0; i < ROWS; i++) {
+                writer.write("김" + i + ",철수,user" + i + "@example.com\n");
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(csvFile);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void flatFileReader(Blackhole blackhole) throws Exception {
+        ItemStreamReader<PersonDto> reader = new FlatFileItemReaderBuilder<PersonDto>()
+                .name("personReader")
+                .resource(new FileSystemResource(csvFile))
+                .delimited()
+                .names("firstName", "lastName", "email")
+                .linesToSkip(1)
+                .targetType(PersonDto.class)
+                .saveState(false)
+                .build();
+        readAll(reader, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void mappedReader(Blackhole blackhole) throws Exception {
+        ItemStreamReader<PersonDto> reader =
+                new MappedPersonCsvItemReader("personReader", new FileSystemResource(csvFile), 0, -1, 1);
+        readAll(reader, blackhole);
+    }
+
+    private void readAll(ItemStreamReader<PersonDto> reader, Blackhole blackhole) throws Exception {
+        reader.open(new ExecutionContext());
+        try {
+            PersonDto person;
+            while ((person = reader.read()) != null) {
+                blackhole.consume(person);
+            }
+        } finally {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.springbatch.benchmark;
+
+import com.springbatch.SpringBatchApplication;
+import com.springbatch.repository.PersonRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * importPersonJob 저장 방식 비교 벤치마크
+ *
+ * writeMode 파라미터(jpa / bulk)별로 같은 CSV 파일을 임포트합니다.
+ * 연산 1회 = 1행이므로 Throughput 결과는 rows/s 입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PersonImportBenchmark {
+
+    private static final int ROWS = 20_000;
+
+    @Param({"jpa", "bulk"})
+    private String writeMode;
+
+    private ConfigurableApplicationContext context;
+    private JobLauncher jobLauncher;
+    private Job importPersonJob;
+    private PersonRepository personRepository;
+    private Path csvFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        csvFile = Files.createTempFile("person-import-benchmark", ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(csvFile, StandardCharsets.UTF_8)) {
+            writer.write("firstName,lastName,email\n");
+            for (int i = 0; i < ROWS; i++) {
+                writer.write("kim" + i + ",chulsoo,user" + i + "@example.com\n");
+            }
+        }
+
+        context = new SpringApplicationBuilder(SpringBatchApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.jpa.show-sql=false", "logging.level.root=WARN")
+                .run();
+        jobLauncher = context.getBean(JobLauncher.class);
+        importPersonJob = context.getBean("importPersonJob", Job.class);
+        personRepository = context.getBean(PersonRepository.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearPersons() {
+        personRepository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        Files.deleteIfExists(csvFile);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public JobExecution importPersons() throws Exception {
+        JobExecution execution = jobLauncher.run(importPersonJob, new JobParametersBuilder()
+                .addLong("time", System.nanoTime())
+                .addString("inputFile", csvFile.toUri().toString())
+                .addString("writeMode", writeMode)
+                .toJobParameters());
+        if (execution.getStatus() != BatchStatus.COMPLETED) {
+            throw new IllegalStateException("importPersonJob ended with " + execution.getStatus());
+        }
+        return execution;
+    }
+}
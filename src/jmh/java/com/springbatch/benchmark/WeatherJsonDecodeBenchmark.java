@@ -0,0 +1,62 @@
+package com.springbatch.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springbatch.dto.WeatherApiResponse;
+import com.springbatch.entity.WeatherData;
+import com.springbatch.service.WeatherDataConverter;
+import com.springbatch.service.WeatherJsonDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 날씨 응답 JSON → WeatherData 변환 비교 벤치마크
+ *
+ * - dtoBinding: ObjectMapper로 WeatherApiResponse DTO 트리를 만든 뒤 필드를 복사 (기존 경로)
+ * - streamingDecoder: WeatherJsonDecoder로 토큰을 읽으며 WeatherData에 바로 채움
+ *
+ * 연산 1회 = 응답 1건이므로 AverageTime 결과는 응답당 ns, gc 프로파일러의 gc.alloc.rate.norm 은 응답당 할당 바이트입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WeatherJsonDecodeBenchmark {
+
+    // OpenWeatherMap /weather 응답 예시 (서울)
+    private static final byte[] RESPONSE = ("{\"coord\":{\"lon\":126.9778,\"lat\":37.5683},"
+            + "\"weather\":[{\"id\":500,\"main\":\"Rain\",\"description\":\"실 비\",\"icon\":\"10d\"}],"
+            + "\"base\":\"stations\","
+            + "\"main\":{\"temp\":18.42,\"feels_like\":18.31,\"temp_min\":17.69,\"temp_max\":19.66,"
+            + "\"pressure\":1012,\"humidity\":78,\"sea_level\":1012,\"grnd_level\":1006},"
+            + "\"visibility\":10000,"
+            + "\"wind\":{\"speed\":3.6,\"deg\":250,\"gust\":6.2},"
+            + "\"rain\":{\"1h\":0.42},"
+            + "\"clouds\":{\"all\":75},"
+            + "\"dt\":1729140000,"
+            + "\"sys\":{\"type\":1,\"id\":8105,\"country\":\"KR\",\"sunrise\":1729114500,\"sunset\":1729155300},"
+            + "\"timezone\":32400,\"id\":1835848,\"name\":\"Seoul\",\"cod\":200}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final WeatherJsonDecoder decoder = new WeatherJsonDecoder(objectMapper.getFactory());
+
+    @Benchmark
+    public WeatherData dtoBinding() throws IOException {
+        WeatherApiResponse response = objectMapper.readValue(RESPONSE, WeatherApiResponse.class);
+        WeatherData weatherData = new WeatherData();
+        WeatherDataConverter.copyWeatherFields(response, weatherData);
+        return weatherData;
+    }
+
+    @Benchmark
+    public WeatherData streamingDecoder() throws IOException {
+        return decoder.decode(RESPONSE);
+    }
+}
@@ -0,0 +1,208 @@
+package com.springbatch.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.CompletionPolicy;
+import org.springframework.batch.repeat.RepeatContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.repeat.context.RepeatContextSupport;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 청크 트랜잭션 소요 시간을 측정해 청크 크기를 자동으로 조절하는 CompletionPolicy
+ *
+ * 청크가 커밋될 때마다 (읽은 아이템 수 / 트랜잭션 시간)으로 처리 속도를 계산하고,
+ * 목표 트랜잭션 시간에 맞는 크기로 다음 청크 크기를 조정합니다 (한 번에 최대 2배 / 절반, min~max 범위 내).
+ * 선택된 크기와 처리 속도는 StepExecution의 ExecutionContext에 기록되며, 재시작 시 마지막 크기부터 시작합니다.
+ *
+ * 같은 Step이 파티션으로 여러 스레드에서 동시에 실행될 수 있으므로 상태는 StepExecution 별로 관리합니다.
+ * Step에 CompletionPolicy로 지정하고, ChunkListener / StepExecutionListener로도 함께 등록해야 합니다.
+ */
+@Slf4j
+public class AdaptiveChunkCompletionPolicy implements CompletionPolicy, ChunkListener, StepExecutionListener {
+
+    public static final String CHUNK_SIZE_KEY = "adaptiveChunk.size";
+    public static final String MIN_CHOSEN_SIZE_KEY = "adaptiveChunk.minChosenSize";
+    public static final String MAX_CHOSEN_SIZE_KEY = "adaptiveChunk.maxChosenSize";
+    public static final String ITEMS_PER_SECOND_KEY = "adaptiveChunk.itemsPerSecond";
+    public static final String LAST_COMMIT_MILLIS_KEY = "adaptiveChunk.lastCommitMillis";
+
+    private final int initialSize;
+    private final int minSize;
+    private final int maxSize;
+    private final long targetNanos;
+
+    private final Map<Long, SizingState> states = new ConcurrentHashMap<>();
+
+    public AdaptiveChunkCompletionPolicy(int initialSize, int minSize, int maxSize, long targetMillis) {
+        this.minSize = Math.max(1, minSize);
+        this.maxSize = Math.max(this.minSize, maxSize);
+        this.initialSize = clamp(initialSize);
+        this.targetNanos = targetMillis * 1_000_000L;
+    }
+
+    // === StepExecutionListener ===
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        ExecutionContext context = stepExecution.getExecutionContext();
+        int size = context.containsKey(CHUNK_SIZE_KEY) ? clamp(context.getInt(CHUNK_SIZE_KEY)) : initialSize;
+        states.put(stepExecution.getId(), new SizingState(size));
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        SizingState state = states.remove(stepExecution.getId());
+        if (state != null) {
+            record(stepExecution, state);
+            log.info("Step {} finished with adaptive chunk size {} (range used: {}~{})",
+                    stepExecution.getStepName(), state.chunkSize, state.minChosen, state.maxChosen);
+        }
+        return null;
+    }
+
+    // === ChunkListener ===
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        StepExecution stepExecution = context.getStepContext().getStepExecution();
+        SizingState state = states.get(stepExecution.getId());
+        if (state != null) {
+            state.chunkStartNanos = System.nanoTime();
+            state.readCountAtStart = stepExecution.getReadCount();
+        }
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        StepExecution stepExecution = context.getStepContext().getStepExecution();
+        SizingState state = states.get(stepExecution.getId());
+        if (state == null) {
+            return;
+        }
+
+        long elapsedNanos = Math.max(1, System.nanoTime() - state.chunkStartNanos);
+        long items = stepExecution.getReadCount() - state.readCountAtStart;
+        if (items <= 0) {
+            return;
+        }
+
+        double nanosPerItem = (double) elapsedNanos / items;
+        int idealSize = (int) Math.min(Integer.MAX_VALUE, targetNanos / nanosPerItem);
+        int current = state.chunkSize;
+        // 급격한 변동을 막기 위해 목표 크기 쪽으로 절반만 이동하고, 한 번에 2배 / 절반 이상은 바꾸지 않음
+        int next = (current + idealSize) / 2;
+        next = Math.max(current / 2, Math.min(current * 2, next));
+        next = clamp(next);
+
+        state.chunkSize = next;
+        state.itemsPerSecond = items * 1_000_000_000.0 / elapsedNanos;
+        state.lastCommitMillis = elapsedNanos / 1_000_000L;
+        state.minChosen = Math.min(state.minChosen, next);
+        state.maxChosen = Math.max(state.maxChosen, next);
+        record(stepExecution, state);
+
+        if (next != current) {
+            log.debug("Step {} chunk size {} -> {} ({} items in {} ms)",
+                    stepExecution.getStepName(), current, next, items, state.lastCommitMillis);
+        }
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        // 실패한 청크는 다음 시도에서 작게 나눠서 처리
+        SizingState state = states.get(context.getStepContext().getStepExecution().getId());
+        if (state != null) {
+            state.chunkSize = clamp(state.chunkSize / 2);
+        }
+    }
+
+    // === CompletionPolicy ===
+
+    @Override
+    public RepeatContext start(RepeatContext parent) {
+        return new ChunkSizeContext(parent, currentChunkSize());
+    }
+
+    @Override
+    public void update(RepeatContext context) {
+        ((ChunkSizeContext) context).count++;
+    }
+
+    @Override
+    public boolean isComplete(RepeatContext context, RepeatStatus result) {
+        if (result == null || !result.isContinuable()) {
+            return true;
+        }
+        return isComplete(context);
+    }
+
+    @Override
+    public boolean isComplete(RepeatContext context) {
+        ChunkSizeContext chunkContext = (ChunkSizeContext) context;
+        return chunkContext.count >= chunkContext.chunkSize;
+    }
+
+    private int currentChunkSize() {
+        StepContext stepContext = StepSynchronizationManager.getContext();
+        if (stepContext == null) {
+            return initialSize;
+        }
+        SizingState state = states.get(stepContext.getStepExecution().getId());
+        return state != null ? state.chunkSize : initialSize;
+    }
+
+    private void record(StepExecution stepExecution, SizingState state) {
+        ExecutionContext context = stepExecution.getExecutionContext();
+        context.putInt(CHUNK_SIZE_KEY, state.chunkSize);
+        context.putInt(MIN_CHOSEN_SIZE_KEY, state.minChosen);
+        context.putInt(MAX_CHOSEN_SIZE_KEY, state.maxChosen);
+        context.putDouble(ITEMS_PER_SECOND_KEY, state.itemsPerSecond);
+        context.putLong(LAST_COMMIT_MILLIS_KEY, state.lastCommitMillis);
+    }
+
+    private int clamp(int size) {
+        return Math.max(minSize, Math.min(maxSize, size));
+    }
+
+    /**
+     * StepExecution 하나의 청크 크기 조절 상태
+     */
+    private static class SizingState {
+        private volatile int chunkSize;
+        private long chunkStartNanos;
+        private long readCountAtStart;
+        private int minChosen;
+        private int maxChosen;
+        private double itemsPerSecond;
+        private long lastCommitMillis;
+
+        private SizingState(int chunkSize) {
+            this.chunkSize = chunkSize;
+            this.minChosen = chunkSize;
+            this.maxChosen = chunkSize;
+        }
+    }
+
+    /**
+     * 청크 하나를 구성하는 동안 읽은 아이템 수를 세는 RepeatContext
+     */
+    private static class ChunkSizeContext extends RepeatContextSupport {
+        private final int chunkSize;
+        private int count;
+
+        private ChunkSizeContext(RepeatContext parent, int chunkSize) {
+            super(parent);
+            this.chunkSize = chunkSize;
+        }
+    }
+}
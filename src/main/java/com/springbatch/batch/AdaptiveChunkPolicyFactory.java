@@ -0,0 +1,35 @@
+package com.springbatch.batch;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * application.properties 설정으로 Step별 AdaptiveChunkCompletionPolicy를 생성하는 팩토리
+ *
+ * 자동 조절을 끄면(batch.chunk.adaptive.enabled=false) 각 Step의 초기 크기로 고정됩니다.
+ */
+@Component
+public class AdaptiveChunkPolicyFactory {
+
+    @Value("${batch.chunk.adaptive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${batch.chunk.adaptive.min-size:1}")
+    private int minSize;
+
+    @Value("${batch.chunk.adaptive.max-size:1000}")
+    private int maxSize;
+
+    @Value("${batch.chunk.adaptive.target-commit-millis:200}")
+    private long targetCommitMillis;
+
+    /**
+     * @param initialSize Step의 시작 청크 크기
+     */
+    public AdaptiveChunkCompletionPolicy create(int initialSize) {
+        if (!enabled) {
+            return new AdaptiveChunkCompletionPolicy(initialSize, initialSize, initialSize, targetCommitMillis);
+        }
+        return new AdaptiveChunkCompletionPolicy(initialSize, minSize, maxSize, targetCommitMillis);
+    }
+}
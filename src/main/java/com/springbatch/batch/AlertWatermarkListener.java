@@ -0,0 +1,86 @@
+package com.springbatch.batch;
+
+import com.springbatch.entity.BatchWatermark;
+import com.springbatch.repository.BatchWatermarkRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 알림 Step이 읽을 수집 시각 구간(since, until]을 워터마크로 정하고, 성공하면 워터마크를 until로 옮기는 리스너
+ *
+ * - since: 저장된 워터마크 - overlap (늦게 커밋된 데이터를 다시 보기 위한 겹침 구간),
+ *          워터마크가 없거나 window-hours보다 오래되었으면 now - window-hours
+ * - until: Step 시작 시각 (이후에 들어온 데이터는 다음 실행에서 처리)
+ *
+ * 구간은 Step ExecutionContext(since / until 키)에 저장되므로 재시작해도 같은 구간을 읽고,
+ * 겹침 구간에서 다시 평가되는 행은 알림 저장 시 (weather_data_id, 알림 유형)으로 이미 만든 알림을 건너뛰므로
+ * (WeatherAlertStore / SetBasedAlertTasklet) 억제 기간이 지났거나 알림이 해제된 뒤에도 같은 알림이 다시 만들어지지 않습니다.
+ */
+@Slf4j
+@Component
+public class AlertWatermarkListener implements StepExecutionListener {
+
+    public static final String WATERMARK_NAME = "weatherAlerts";
+    public static final String SINCE_KEY = "alert.since";
+    public static final String UNTIL_KEY = "alert.until";
+
+    @Autowired
+    private BatchWatermarkRepository batchWatermarkRepository;
+
+    // 워터마크가 없을 때(첫 실행) 또는 너무 오래되었을 때 읽을 최대 구간
+    @Value("${weather.alert.window-hours:24}")
+    private long windowHours;
+
+    // 늦게 도착한 데이터를 위해 워터마크 이전으로 다시 읽는 구간
+    @Value("${weather.alert.watermark.overlap:10m}")
+    private Duration overlap;
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        ExecutionContext context = stepExecution.getExecutionContext();
+        if (context.containsKey(SINCE_KEY) && context.containsKey(UNTIL_KEY)) {
+            log.info("Restarting alert step with saved range ({}, {}]", context.getString(SINCE_KEY), context.getString(UNTIL_KEY));
+            return;
+        }
+
+        LocalDateTime until = LocalDateTime.now();
+        LocalDateTime earliest = until.minusHours(windowHours);
+        LocalDateTime since = batchWatermarkRepository.findById(WATERMARK_NAME)
+                .map(watermark -> watermark.getWatermark().minus(overlap))
+                .filter(start -> start.isAfter(earliest))
+                .orElse(earliest);
+
+        context.putString(SINCE_KEY, since.toString());
+        context.putString(UNTIL_KEY, until.toString());
+        log.info("Alert step will read weather data collected in ({}, {}]", since, until);
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        if (stepExecution.getStatus() != BatchStatus.COMPLETED) {
+            return null;
+        }
+        LocalDateTime until = until(stepExecution.getExecutionContext());
+        batchWatermarkRepository.save(new BatchWatermark(WATERMARK_NAME, until, null));
+        log.info("Advanced {} watermark to {}", WATERMARK_NAME, until);
+        return null;
+    }
+
+    public static LocalDateTime since(ExecutionContext context) {
+        return LocalDateTime.parse(context.getString(SINCE_KEY));
+    }
+
+    public static LocalDateTime until(ExecutionContext context) {
+        return LocalDateTime.parse(context.getString(UNTIL_KEY));
+    }
+}
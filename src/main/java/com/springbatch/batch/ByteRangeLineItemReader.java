@@ -0,0 +1,171 @@
+package com.springbatch.batch;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.NonTransientResourceException;
+import org.springframework.batch.item.file.LineMapper;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * 파일의 [start, end) 바이트 구간만 줄 단위로 읽는 ItemReader
+ *
+ * ByteRangePartitioner가 구간 경계를 줄바꿈에 맞춰두므로 이 리더는 구간 안의 줄만 그대로 읽습니다.
+ * - start가 0인 구간만 헤더(linesToSkip)를 건너뜀
+ * - 다음에 읽을 바이트 위치와 줄 번호를 ExecutionContext에 저장하여 재시작 시 그 위치부터 이어서 읽음
+ * - 구간 끝 전에 파일이 끝나면(재시작 전에 파일이 잘리거나 교체된 경우) NonTransientResourceException으로 실패
+ *
+ * Step 범위 빈으로 파티션마다 새로 생성해서 사용해야 합니다 (스레드 안전하지 않음).
+ */
+public class ByteRangeLineItemReader<T> implements ItemStreamReader<T> {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final String name;
+    private final Resource resource;
+    private final long start;
+    private final long end;
+    private final int linesToSkip;
+    private final LineMapper<T> lineMapper;
+    private final Charset charset = StandardCharsets.UTF_8;
+
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private byte[] lineBuffer = new byte[256];
+
+    private FileChannel channel;
+    private long position;
+    private int lineNumber;
+
+    public ByteRangeLineItemReader(String name, Resource resource, long start, long end,
+                                   int linesToSkip, LineMapper<T> lineMapper) {
+        this.name = name;
+        this.resource = resource;
+        this.start = start;
+        this.end = end;
+        this.linesToSkip = linesToSkip;
+        this.lineMapper = lineMapper;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        try {
+            channel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new ItemStreamException("Failed to open " + resource, e);
+        }
+
+        buffer.clear().flip();
+        String positionKey = getPositionKey();
+        if (executionContext.containsKey(positionKey)) {
+            // 재시작: 마지막 커밋 시점의 위치 / 줄 번호부터 이어서 읽기
+            position = executionContext.getLong(positionKey);
+            lineNumber = executionContext.getInt(getLineNumberKey(), 0);
+            return;
+        }
+
+        position = start;
+        if (start == 0) {
+            try {
+                for (int i = 0; i < linesToSkip; i++) {
+                    readLine();
+                }
+            } catch (IOException e) {
+                throw new ItemStreamException("Failed to skip header of " + resource, e);
+            }
+        }
+    }
+
+    @Override
+    public T read() throws Exception {
+        String line = readLine();
+        // 빈 줄은 건너뜀
+        while (line != null && line.isEmpty()) {
+            line = readLine();
+        }
+        if (line == null) {
+            return null;
+        }
+        return lineMapper.mapLine(line, ++lineNumber);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putLong(getPositionKey(), position);
+        executionContext.putInt(getLineNumberKey(), lineNumber);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new ItemStreamException("Failed to close " + resource, e);
+        } finally {
+            channel = null;
+        }
+    }
+
+    /**
+     * 현재 위치에서 한 줄을 읽고 position을 다음 줄의 시작으로 이동
+     * 구간 끝에 도달하면 null 반환
+     *
+     * @throws NonTransientResourceException 구간 끝 전에 파일이 끝난 경우
+     */
+    private String readLine() throws IOException {
+        if (position >= end) {
+            return null;
+        }
+
+        int length = 0;
+        while (position < end) {
+            if (!buffer.hasRemaining() && !fillBuffer()) {
+                throw new NonTransientResourceException(String.format(
+                        "%s ended at byte %d before the end of its range [%d, %d)", resource, position, start, end));
+            }
+            byte b = buffer.get();
+            position++;
+            if (b == '\n') {
+                break;
+            }
+            if (length == lineBuffer.length) {
+                lineBuffer = Arrays.copyOf(lineBuffer, length * 2);
+            }
+            lineBuffer[length++] = b;
+        }
+
+        if (length > 0 && lineBuffer[length - 1] == '\r') {
+            length--;
+        }
+        return new String(lineBuffer, 0, length, charset);
+    }
+
+    private boolean fillBuffer() throws IOException {
+        buffer.clear();
+        long remaining = end - position;
+        if (remaining < buffer.capacity()) {
+            buffer.limit((int) remaining);
+        }
+        int read = channel.read(buffer, position);
+        buffer.flip();
+        return read > 0;
+    }
+
+    private String getPositionKey() {
+        return name + ".position";
+    }
+
+    private String getLineNumberKey() {
+        return name + ".lineNumber";
+    }
+}
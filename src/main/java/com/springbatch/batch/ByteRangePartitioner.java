@@ -0,0 +1,114 @@
+package com.springbatch.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 큰 파일 하나를 줄 경계에 맞춘 바이트 구간으로 나누는 Partitioner
+ *
+ * 파일마다 gridSize 개의 구간을 만들고, 각 구간의 끝은 다음 줄바꿈 바로 뒤로 맞춥니다.
+ * 따라서 모든 줄은 정확히 하나의 구간에만 속하고, 헤더는 항상 시작 위치가 0인 구간에 들어갑니다.
+ *
+ * 각 파티션의 ExecutionContext 키:
+ * - fileName: 파일 URL
+ * - range.start: 구간 시작 바이트 (포함)
+ * - range.end: 구간 끝 바이트 (제외)
+ */
+@Slf4j
+public class ByteRangePartitioner implements Partitioner {
+
+    public static final String FILE_NAME_KEY = "fileName";
+    public static final String RANGE_START_KEY = "range.start";
+    public static final String RANGE_END_KEY = "range.end";
+
+    private final Resource[] resources;
+
+    public ByteRangePartitioner(Resource[] resources) {
+        this.resources = resources;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        int partitionIndex = 0;
+
+        for (Resource resource : resources) {
+            rejectCompressed(resource);
+            try (FileChannel channel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ)) {
+                long size = channel.size();
+                int rangeCount = (int) Math.max(1, Math.min(gridSize, size));
+
+                long start = 0;
+                for (int i = 1; i <= rangeCount && start < size; i++) {
+                    long end = (i == rangeCount) ? size : alignToNextLine(channel, size * i / rangeCount, size);
+                    if (end <= start) {
+                        continue;
+                    }
+
+                    ExecutionContext context = new ExecutionContext();
+                    context.putString(FILE_NAME_KEY, resource.getURL().toExternalForm());
+                    context.putLong(RANGE_START_KEY, start);
+                    context.putLong(RANGE_END_KEY, end);
+                    partitions.put("partition" + partitionIndex++, context);
+
+                    start = end;
+                }
+                log.info("Split {} ({} bytes) into byte ranges", resource.getFilename(), size);
+            } catch (IOException e) {
+                throw new ItemStreamException("Failed to split file into byte ranges: " + resource, e);
+            }
+        }
+
+        log.info("Created {} byte-range partitions", partitions.size());
+        return partitions;
+    }
+
+    /**
+     * 압축 파일은 바이트 구간으로 나눌 수 없으므로 file 모드를 사용하도록 안내
+     */
+    private void rejectCompressed(Resource resource) {
+        try {
+            if (DecompressingResource.detect(resource) != DecompressingResource.Compression.NONE) {
+                throw new ItemStreamException(
+                        "Compressed input cannot be split into byte ranges, use partitionMode=file: " + resource);
+            }
+        } catch (IOException e) {
+            throw new ItemStreamException("Failed to inspect " + resource, e);
+        }
+    }
+
+    /**
+     * position 직전 바이트부터 줄바꿈을 찾아 그 다음 위치를 반환
+     * position에서 막 시작하는 줄은 그대로 다음 구간의 첫 줄이 됨
+     */
+    private long alignToNextLine(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        long offset = position - 1;
+
+        while (offset < size) {
+            buffer.clear();
+            int read = channel.read(buffer, offset);
+            if (read <= 0) {
+                break;
+            }
+            buffer.flip();
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,42 @@
+package com.springbatch.batch;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.batch.item.database.JpaPagingItemReader;
+import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도시 카탈로그(cities 테이블)에서 수집 대상 도시 코드를 읽는 Reader를 생성하는 팩토리
+ *
+ * JpaPagingItemReader는 페이지 단위(weather.city.page-size)로 조회하므로 도시가 수만 개여도 메모리가 일정하고,
+ * read()가 동기화되어 있어 멀티 스레드 Step에서도 안전하며,
+ * 읽은 위치를 ExecutionContext에 저장해 재시작 시 이어서 읽습니다.
+ */
+@Component
+public class CityReaderFactory {
+
+    // 코드 순 정렬이 고정되어야 페이지 경계와 재시작 위치가 일정함
+    private static final String ACTIVE_CITY_CODES_QUERY =
+            "SELECT c.code FROM City c WHERE c.active = true ORDER BY c.code";
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Value("${weather.city.page-size:500}")
+    private int pageSize;
+
+    /**
+     * @param name ExecutionContext 키 접두사로 쓰이는 Reader 이름 (Step마다 달라야 함)
+     */
+    public JpaPagingItemReader<String> create(String name) {
+        return new JpaPagingItemReaderBuilder<String>()
+                .name(name)
+                .entityManagerFactory(entityManagerFactory)
+                .queryString(ACTIVE_CITY_CODES_QUERY)
+                .pageSize(pageSize)
+                .saveState(true)
+                .build();
+    }
+}
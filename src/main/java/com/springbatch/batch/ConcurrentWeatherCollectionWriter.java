@@ -0,0 +1,122 @@
+package com.springbatch.batch;
+
+import com.springbatch.dto.CityWeatherResult;
+import com.springbatch.entity.WeatherData;
+import com.springbatch.repository.WeatherDataRepository;
+import com.springbatch.service.WeatherApiService;
+import com.springbatch.service.WeatherDataConverter;
+import com.springbatch.service.WeatherHistoryIndex;
+import com.springbatch.service.WeatherIngestEventBus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 청크에 담긴 도시 코드들의 날씨를 WebClient로 동시에 조회한 뒤 한 번에 저장하는 ItemWriter
+ *
+ * 도시마다 block() 하지 않고 청크 전체를 최대 concurrency 개씩 동시에 요청하므로
+ * 수집 시간이 (도시 수 ÷ concurrency) × API 지연 시간에 가까워집니다.
+ * groupSize가 1보다 크면 도시를 그룹 조회 API로 묶어서 요청 수 자체를 줄입니다.
+ *
+ * 실패한 도시는 null로 버리지 않고 모아서 Step 종료 시 ExecutionContext에 기록하고,
+ * 하나라도 실패하면 Step 종료 코드를 COMPLETED_WITH_FAILURES로 바꿉니다.
+ * Step 범위 빈으로 생성해야 실행마다 실패 목록이 초기화됩니다.
+ */
+@Slf4j
+public class ConcurrentWeatherCollectionWriter implements ItemWriter<String>, StepExecutionListener {
+
+    public static final String FAILED_CITIES_KEY = "collection.failedCities";
+    public static final String FAILED_COUNT_KEY = "collection.failedCount";
+    public static final ExitStatus COMPLETED_WITH_FAILURES = new ExitStatus("COMPLETED_WITH_FAILURES");
+
+    private final WeatherApiService weatherApiService;
+    private final WeatherDataConverter weatherDataConverter;
+    private final WeatherDataRepository weatherDataRepository;
+    private final WeatherHistoryIndex weatherHistoryIndex;
+    private final WeatherIngestEventBus weatherIngestEventBus;
+    private final int concurrency;
+    private final int groupSize;
+
+    private final List<String> failedCities = new ArrayList<>();
+
+    public ConcurrentWeatherCollectionWriter(WeatherApiService weatherApiService,
+                                             WeatherDataConverter weatherDataConverter,
+                                             WeatherDataRepository weatherDataRepository,
+                                             WeatherHistoryIndex weatherHistoryIndex,
+                                             WeatherIngestEventBus weatherIngestEventBus,
+                                             int concurrency,
+                                             int groupSize) {
+        this.weatherApiService = weatherApiService;
+        this.weatherDataConverter = weatherDataConverter;
+        this.weatherDataRepository = weatherDataRepository;
+        this.weatherHistoryIndex = weatherHistoryIndex;
+        this.weatherIngestEventBus = weatherIngestEventBus;
+        this.concurrency = concurrency;
+        this.groupSize = groupSize;
+    }
+
+    @Override
+    public void write(Chunk<? extends String> chunk) {
+        List<String> cityCodes = new ArrayList<>(chunk.getItems());
+        long startNanos = System.nanoTime();
+
+        // 청크 전체를 동시에 요청하고 한 번만 기다림 (결과는 요청 순서대로 정렬됨)
+        Flux<CityWeatherResult> requests = groupSize > 1
+                ? weatherApiService.getCurrentWeatherGrouped(cityCodes, groupSize, concurrency)
+                : weatherApiService.getCurrentWeather(cityCodes, concurrency);
+        List<CityWeatherResult> results = requests.collectList().block();
+
+        List<WeatherData> collected = new ArrayList<>(cityCodes.size());
+        for (CityWeatherResult result : results) {
+            if (!result.isSuccess()) {
+                log.error("Failed to collect weather data for {}: {}", result.getCityCode(), result.getError());
+                failedCities.add(result.getCityCode());
+                continue;
+            }
+            WeatherData weatherData;
+            try {
+                weatherData = result.getRawJson() != null
+                        ? weatherDataConverter.convertFromJson(result.getRawJson(), result.getCityCode())
+                        : weatherDataConverter.convertToWeatherData(result.getResponse(), result.getCityCode());
+            } catch (IOException e) {
+                log.error("Failed to decode weather data for {}: {}", result.getCityCode(), e.getMessage());
+                failedCities.add(result.getCityCode());
+                continue;
+            }
+            weatherDataConverter.detectAbnormalWeather(weatherData);
+            collected.add(weatherData);
+        }
+
+        if (!collected.isEmpty()) {
+            weatherDataRepository.saveAll(collected);
+            // 청크 트랜잭션이 커밋된 뒤 온도 인덱스에 반영하고 실시간 알림 평가기로 전달
+            weatherHistoryIndex.recordAfterCommit(collected);
+            weatherIngestEventBus.publishAfterCommit(collected);
+        }
+        log.info("Collected {} of {} cities in {} ms (concurrency: {}, group size: {})",
+                collected.size(), cityCodes.size(), (System.nanoTime() - startNanos) / 1_000_000, concurrency, groupSize);
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        if (failedCities.isEmpty()) {
+            return null;
+        }
+        stepExecution.getExecutionContext().putString(FAILED_CITIES_KEY, String.join(",", failedCities));
+        stepExecution.getExecutionContext().putInt(FAILED_COUNT_KEY, failedCities.size());
+        log.warn("Weather collection finished with {} failed cities: {}", failedCities.size(), failedCities);
+
+        if (ExitStatus.COMPLETED.getExitCode().equals(stepExecution.getExitStatus().getExitCode())) {
+            return COMPLETED_WITH_FAILURES;
+        }
+        return null;
+    }
+}
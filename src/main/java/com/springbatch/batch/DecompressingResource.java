@@ -0,0 +1,100 @@
+package com.springbatch.batch;
+
+import com.github.luben.zstd.ZstdInputStream;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * gzip / zstd로 압축된 파일을 읽는 즉시 풀어서 돌려주는 Resource
+ *
+ * 압축 형식은 확장자가 아니라 파일 앞부분의 매직 바이트로 판별하고,
+ * 압축되지 않은 파일은 원본 스트림을 그대로 돌려줍니다.
+ * 고정 크기 버퍼로 스트리밍 해제하므로 임시 파일이나 파일 크기만큼의 메모리가 필요 없습니다.
+ *
+ * FlatFileItemReader는 재시작 시 ExecutionContext의 read.count(해제된 기준 줄 수)만큼 건너뛰므로
+ * 압축 파일도 처음부터 다시 풀면서 마지막 커밋 위치로 돌아갑니다.
+ */
+public class DecompressingResource extends AbstractResource {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 매직 바이트로 판별한 압축 형식
+     */
+    public enum Compression {
+        NONE, GZIP, ZSTD
+    }
+
+    private final Resource delegate;
+
+    public DecompressingResource(Resource delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        BufferedInputStream in = new BufferedInputStream(delegate.getInputStream(), BUFFER_SIZE);
+        switch (detect(in)) {
+            case GZIP:
+                return new GZIPInputStream(in, BUFFER_SIZE);
+            case ZSTD:
+                return new BufferedInputStream(new ZstdInputStream(in), BUFFER_SIZE);
+            default:
+                return in;
+        }
+    }
+
+    /**
+     * 리소스의 압축 형식 판별 (앞의 4바이트만 읽음)
+     */
+    public static Compression detect(Resource resource) throws IOException {
+        try (BufferedInputStream in = new BufferedInputStream(resource.getInputStream(), 4)) {
+            return detect(in);
+        }
+    }
+
+    /**
+     * 스트림 앞부분을 엿보고 원래 위치로 되돌림
+     * - gzip: 1F 8B
+     * - zstd: 28 B5 2F FD
+     */
+    private static Compression detect(BufferedInputStream in) throws IOException {
+        in.mark(4);
+        byte[] magic = in.readNBytes(4);
+        in.reset();
+
+        if (magic.length >= 2 && (magic[0] & 0xFF) == 0x1F && (magic[1] & 0xFF) == 0x8B) {
+            return Compression.GZIP;
+        }
+        if (magic.length == 4 && (magic[0] & 0xFF) == 0x28 && (magic[1] & 0xFF) == 0xB5
+                && (magic[2] & 0xFF) == 0x2F && (magic[3] & 0xFF) == 0xFD) {
+            return Compression.ZSTD;
+        }
+        return Compression.NONE;
+    }
+
+    @Override
+    public boolean exists() {
+        return delegate.exists();
+    }
+
+    @Override
+    public boolean isReadable() {
+        return delegate.isReadable();
+    }
+
+    @Override
+    public String getFilename() {
+        return delegate.getFilename();
+    }
+
+    @Override
+    public String getDescription() {
+        return "decompressing " + delegate.getDescription();
+    }
+}
@@ -0,0 +1,118 @@
+package com.springbatch.batch;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 이메일 중복 여부를 빠르게 걸러내는 Bloom 필터
+ *
+ * mightContain()이 false면 확실히 처음 보는 이메일이고, true면 실제로 있는지 별도로 확인해야 합니다.
+ * 비트 배열은 AtomicLongArray라서 여러 파티션 스레드가 동시에 put / mightContain을 호출해도 안전합니다.
+ *
+ * 메모리 사용량은 예상 건수와 오탐률로만 결정됩니다 (1억 건, 1% 기준 약 120MB).
+ */
+public class EmailBloomFilter {
+
+    private static final int FILE_MAGIC = 0x424C4F4D; // "BLOM"
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    private EmailBloomFilter(long bitCount, int hashCount) {
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+        this.bits = new AtomicLongArray((int) ((bitCount + 63) / 64));
+    }
+
+    /**
+     * 예상 건수와 목표 오탐률로 최적 크기의 필터 생성
+     */
+    public static EmailBloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long bitCount = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        bitCount = Math.max(64, Math.min(bitCount, (long) Integer.MAX_VALUE * 64));
+        int hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        return new EmailBloomFilter(bitCount, hashCount);
+    }
+
+    public boolean mightContain(String email) {
+        long hash = hash(email);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = indexOf(h1 + i * h2);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void put(String email) {
+        long hash = hash(email);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = indexOf(h1 + i * h2);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(FILE_MAGIC);
+        out.writeLong(bitCount);
+        out.writeInt(hashCount);
+        for (int i = 0; i < bits.length(); i++) {
+            out.writeLong(bits.get(i));
+        }
+    }
+
+    public static EmailBloomFilter readFrom(DataInputStream in) throws IOException {
+        if (in.readInt() != FILE_MAGIC) {
+            throw new IOException("Not an email bloom filter file");
+        }
+        EmailBloomFilter filter = new EmailBloomFilter(in.readLong(), in.readInt());
+        for (int i = 0; i < filter.bits.length(); i++) {
+            filter.bits.set(i, in.readLong());
+        }
+        return filter;
+    }
+
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    private long indexOf(int combinedHash) {
+        // 음수가 되지 않도록 부호 비트를 뒤집어 사용
+        int positive = combinedHash < 0 ? ~combinedHash : combinedHash;
+        return (positive * 0x9E3779B97F4A7C15L >>> 1) % bitCount;
+    }
+
+    /**
+     * 문자 단위 FNV-1a 64비트 해시 + 비트 섞기 (바이트 배열을 만들지 않음)
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,29 @@
+package com.springbatch.batch;
+
+import com.springbatch.entity.Person;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+import java.util.List;
+
+/**
+ * 이미 저장된 이메일을 가진 Person을 제외하고 나머지만 원래 Writer에 넘기는 ItemWriter
+ */
+public class EmailDeduplicatingItemWriter implements ItemWriter<Person> {
+
+    private final ItemWriter<Person> delegate;
+    private final PersonEmailDeduplicator deduplicator;
+
+    public EmailDeduplicatingItemWriter(ItemWriter<Person> delegate, PersonEmailDeduplicator deduplicator) {
+        this.delegate = delegate;
+        this.deduplicator = deduplicator;
+    }
+
+    @Override
+    public void write(Chunk<? extends Person> chunk) throws Exception {
+        List<Person> unique = deduplicator.removeDuplicates(chunk.getItems());
+        if (!unique.isEmpty()) {
+            delegate.write(new Chunk<>(unique));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.springbatch.batch;
+
+import com.springbatch.repository.WeatherAlertRepository;
+import com.springbatch.service.AlertSuppressionIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 오래된 미해제 알림을 ID 묶음 단위의 UPDATE 문으로 한 번에 해제하는 Tasklet
+ *
+ * 알림을 엔티티로 읽어 markAsResolved()를 하나씩 호출하지 않고,
+ * 해제 대상 ID를 최대 batchSize개 조회한 뒤 UPDATE ... WHERE id IN (...) 한 문장으로 처리합니다.
+ * 묶음마다 CONTINUABLE을 반환하므로 묶음 하나가 한 트랜잭션으로 커밋되어 잠금과 트랜잭션 크기가 일정하게 유지됩니다.
+ *
+ * 해제 기준 시각은 Step 시작 시각 - maxAge로 고정되어, 실행 중에 새로 기준을 넘는 알림은 다음 실행에서 처리됩니다.
+ * 해제한 알림 수는 Step의 writeCount로 기록되고, 묶음이 커밋되면 중복 방지 인덱스에서도 해제한 알림의 키를 제거합니다.
+ */
+@Slf4j
+public class ExpireWeatherAlertsTasklet implements Tasklet {
+
+    private final WeatherAlertRepository weatherAlertRepository;
+    private final AlertSuppressionIndex alertSuppressionIndex;
+    private final Duration maxAge;
+    private final int batchSize;
+
+    public ExpireWeatherAlertsTasklet(WeatherAlertRepository weatherAlertRepository,
+                                      AlertSuppressionIndex alertSuppressionIndex, Duration maxAge, int batchSize) {
+        this.weatherAlertRepository = weatherAlertRepository;
+        this.alertSuppressionIndex = alertSuppressionIndex;
+        this.maxAge = maxAge;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        LocalDateTime expiredTime = chunkContext.getStepContext().getStepExecution().getStartTime().minus(maxAge);
+
+        List<Long> ids = weatherAlertRepository.findExpiredAlertIds(expiredTime, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return RepeatStatus.FINISHED;
+        }
+
+        int resolved = weatherAlertRepository.resolveByIds(ids, LocalDateTime.now());
+        contribution.incrementWriteCount(resolved);
+        alertSuppressionIndex.releaseResolvedBefore(expiredTime);
+        log.info("Resolved {} weather alerts older than {}", resolved, expiredTime);
+
+        return ids.size() < batchSize ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+    }
+}
@@ -0,0 +1,40 @@
+package com.springbatch.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Step 종료 시 처리량(rows/s)을 계산해 로그와 ExecutionContext에 기록하는 리스너
+ *
+ * 파티셔닝 Step의 Manager에 등록하면 모든 파티션을 합산한 처리량이 기록됩니다.
+ */
+@Slf4j
+@Component
+public class ImportThroughputListener implements StepExecutionListener {
+
+    public static final String ROWS_PER_SECOND_KEY = "throughput.rowsPerSecond";
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        LocalDateTime startTime = stepExecution.getStartTime();
+        if (startTime == null) {
+            return null;
+        }
+
+        long elapsedMillis = Math.max(1, Duration.between(startTime, LocalDateTime.now()).toMillis());
+        long rows = stepExecution.getWriteCount();
+        double rowsPerSecond = rows * 1000.0 / elapsedMillis;
+
+        stepExecution.getExecutionContext().putDouble(ROWS_PER_SECOND_KEY, rowsPerSecond);
+        log.info("Step {} wrote {} rows in {} ms ({} rows/s, writeMode: {})",
+                stepExecution.getStepName(), rows, elapsedMillis, String.format("%.1f", rowsPerSecond),
+                stepExecution.getJobParameters().getString("writeMode", "jpa"));
+        return null;
+    }
+}
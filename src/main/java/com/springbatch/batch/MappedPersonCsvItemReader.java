@@ -0,0 +1,242 @@
+package com.springbatch.batch;
+
+import com.springbatch.dto.PersonDto;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * 파일을 메모리 맵(FileChannel.map)으로 열고 바이트를 직접 토큰화하여 PersonDto를 만드는 ItemReader
+ *
+ * FlatFileItemReader + DelimitedLineTokenizer + BeanWrapperFieldSetMapper 조합과 달리
+ * 줄 String, FieldSet, 토큰 배열을 만들지 않고, 리플렉션 없이 생성자로 PersonDto를 만듭니다.
+ * 한 행에서 새로 할당되는 객체는 필드 String 3개와 PersonDto 하나뿐입니다.
+ *
+ * - 컬럼 순서: firstName,lastName,email (따옴표로 감싼 필드와 "" 이스케이프 지원)
+ * - [start, end) 바이트 구간만 읽을 수 있어 ByteRangePartitioner와 함께 사용 가능 (end가 음수면 파일 끝까지)
+ * - 다음에 읽을 바이트 위치와 줄 번호를 ExecutionContext에 저장하여 재시작 지원
+ *
+ * Step 범위 빈으로 파티션마다 새로 생성해서 사용해야 합니다 (스레드 안전하지 않음).
+ */
+public class MappedPersonCsvItemReader implements ItemStreamReader<PersonDto> {
+
+    // 한 번에 매핑하는 최대 크기 (MappedByteBuffer는 int 인덱스라 2GB를 넘을 수 없음)
+    private static final long MAX_WINDOW_SIZE = 256L * 1024 * 1024;
+
+    private static final int FIELD_COUNT = 3;
+
+    private final String name;
+    private final Resource resource;
+    private final long start;
+    private final long endLimit;
+    private final int linesToSkip;
+
+    private final String[] tokens = new String[FIELD_COUNT];
+    private byte[] fieldBuffer = new byte[128];
+
+    private FileChannel channel;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long end;
+    private long position;
+    private int lineNumber;
+
+    public MappedPersonCsvItemReader(String name, Resource resource, long start, long end, int linesToSkip) {
+        this.name = name;
+        this.resource = resource;
+        this.start = start;
+        this.endLimit = end;
+        this.linesToSkip = linesToSkip;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        try {
+            channel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ);
+            long size = channel.size();
+            end = endLimit < 0 ? size : Math.min(endLimit, size);
+        } catch (IOException e) {
+            throw new ItemStreamException("Failed to open " + resource, e);
+        }
+
+        window = null;
+        lineNumber = 0;
+        String positionKey = getPositionKey();
+        if (executionContext.containsKey(positionKey)) {
+            // 재시작: 마지막 커밋 시점의 위치 / 줄 번호부터 이어서 읽기
+            position = executionContext.getLong(positionKey);
+            lineNumber = executionContext.getInt(getLineNumberKey(), 0);
+            return;
+        }
+
+        position = start;
+        if (start == 0) {
+            try {
+                for (int i = 0; i < linesToSkip && position < end; i++) {
+                    parseLine();
+                }
+            } catch (IOException e) {
+                throw new ItemStreamException("Failed to skip header of " + resource, e);
+            }
+        }
+    }
+
+    @Override
+    public PersonDto read() throws Exception {
+        while (position < end) {
+            int fieldCount = parseLine();
+            if (fieldCount == 0) {
+                continue; // 빈 줄은 건너뜀
+            }
+            if (fieldCount != FIELD_COUNT) {
+                throw new FlatFileParseException(
+                        "Expected " + FIELD_COUNT + " fields but found " + fieldCount, "", lineNumber);
+            }
+            return new PersonDto(tokens[0], tokens[1], tokens[2]);
+        }
+        return null;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putLong(getPositionKey(), position);
+        executionContext.putInt(getLineNumberKey(), lineNumber);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        window = null;
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new ItemStreamException("Failed to close " + resource, e);
+        } finally {
+            channel = null;
+        }
+    }
+
+    /**
+     * 현재 위치의 한 줄을 tokens 배열에 토큰화하고 position을 다음 줄로 이동
+     * 줄이 매핑 구간 경계에 걸치면 줄 시작 위치부터 다시 매핑하여 재시도
+     *
+     * @return 읽은 필드 수 (빈 줄이면 0)
+     */
+    private int parseLine() throws IOException {
+        while (true) {
+            ensureMapped(position);
+            int offset = (int) (position - windowStart);
+            int limit = window.limit();
+            boolean lastWindow = windowStart + limit >= end;
+
+            int i = offset;
+            int fieldCount = 0;
+            int length = 0;
+            boolean inQuotes = false;
+            boolean lineEnded = false;
+
+            while (i < limit) {
+                byte b = window.get(i);
+                if (inQuotes) {
+                    if (b == '"') {
+                        if (i + 1 < limit && window.get(i + 1) == '"') {
+                            length = append(length, b);
+                            i += 2;
+                        } else {
+                            inQuotes = false;
+                            i++;
+                        }
+                        continue;
+                    }
+                    length = append(length, b);
+                    i++;
+                    continue;
+                }
+                if (b == '"' && length == 0) {
+                    inQuotes = true;
+                    i++;
+                    continue;
+                }
+                if (b == ',') {
+                    fieldCount = emit(fieldCount, length);
+                    length = 0;
+                    i++;
+                    continue;
+                }
+                if (b == '\n') {
+                    lineEnded = true;
+                    i++;
+                    break;
+                }
+                length = append(length, b);
+                i++;
+            }
+
+            if (!lineEnded && !lastWindow) {
+                if (offset == 0) {
+                    throw new FlatFileParseException("Line exceeds mapping window size", "", lineNumber + 1);
+                }
+                // 줄이 매핑 구간 밖으로 이어짐: 줄 시작부터 다시 매핑
+                window = null;
+                continue;
+            }
+
+            lineNumber++;
+            position = windowStart + i;
+
+            if (length > 0 && fieldBuffer[length - 1] == '\r') {
+                length--;
+            }
+            if (fieldCount == 0 && length == 0) {
+                return 0;
+            }
+            return emit(fieldCount, length);
+        }
+    }
+
+    private int append(int length, byte b) {
+        if (length == fieldBuffer.length) {
+            fieldBuffer = Arrays.copyOf(fieldBuffer, length * 2);
+        }
+        fieldBuffer[length] = b;
+        return length + 1;
+    }
+
+    private int emit(int fieldCount, int length) {
+        if (fieldCount < FIELD_COUNT) {
+            tokens[fieldCount] = new String(fieldBuffer, 0, length, StandardCharsets.UTF_8);
+        }
+        return fieldCount + 1;
+    }
+
+    /**
+     * target 위치가 현재 매핑 구간 안에 있도록 보장
+     */
+    private void ensureMapped(long target) throws IOException {
+        if (window != null && target >= windowStart && target < windowStart + window.limit()) {
+            return;
+        }
+        windowStart = target;
+        long size = Math.min(MAX_WINDOW_SIZE, end - windowStart);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, size);
+    }
+
+    private String getPositionKey() {
+        return name + ".position";
+    }
+
+    private String getLineNumberKey() {
+        return name + ".lineNumber";
+    }
+}
@@ -0,0 +1,292 @@
+package com.springbatch.batch;
+
+import com.springbatch.entity.Person;
+import com.springbatch.repository.PersonRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Person 임포트 시 이미 저장된 이메일을 걸러내는 중복 제거기
+ *
+ * 1. 정규화한 이메일(normalize)을 처리 중인 다른 청크가 먼저 차지했는지 확인 → 차지했으면 중복
+ * 2. Bloom 필터로 검사 → 필터에 없으면 확실히 새 이메일
+ * 3. 필터에 있다고 나온 이메일만 모아서 청크당 한 번의 IN 쿼리로 실제 존재 여부 확인
+ * 4. 통과한 이메일을 필터에 추가
+ *
+ * 필터는 Step 종료 시 파일로 저장되고 다음 실행에서 다시 읽으며,
+ * 파일이 없거나 읽을 수 없으면 person 테이블의 이메일로 다시 만듭니다 (필터에 없으면 새 이메일로 믿기 때문).
+ * 행마다 SELECT 하지 않고도 수억 건 규모에서 메모리 사용량이 일정하게 유지됩니다.
+ *
+ * 필터는 모든 파티션 워커가 공유하므로, 같은 이메일이 두 파티션에서 동시에 들어오면
+ * 둘 다 커밋 전이라 DB 확인을 통과할 수 있습니다. 이를 막기 위해 청크 트랜잭션이 끝날 때까지
+ * 이메일을 처리 중 목록(inFlightEmails)에 올려두고, 다른 청크는 그 이메일을 중복으로 처리합니다.
+ * 목록에는 아직 끝나지 않은 청크의 이메일만 남으므로 메모리 사용량은 (동시 청크 수 × 청크 크기)로 제한됩니다.
+ *
+ * importPersonJob과 importPersonPartitionedJob이 이 싱글톤을 함께 쓰므로 임포트가 동시에 실행될 수 있습니다.
+ * 필터와 처리 중 목록은 같은 person 테이블을 지키므로 모든 실행이 공유하고(다른 실행이 시작해도 비우거나 바꾸지 않음),
+ * 중복 건수만 Job 실행(JobExecution ID)별로 따로 셉니다. 처리 중 목록은 실행 중인 Step이 모두 끝났을 때만 비웁니다.
+ *
+ * Step 시작/종료 시 필터를 읽고 저장하도록 임포트 Step(파티셔닝이면 Manager Step)에 리스너로 등록해야 합니다.
+ */
+@Slf4j
+@Component
+public class PersonEmailDeduplicator implements StepExecutionListener {
+
+    public static final String DUPLICATE_COUNT_KEY = "dedup.duplicateCount";
+
+    // 필터를 DB에서 다시 만들 때 한 번에 가져올 행 수
+    private static final int SEED_FETCH_SIZE = 10_000;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    // 필터 파일이 없을 때 기존 이메일을 스트리밍으로 읽기 위한 DataSource
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${batch.person.dedup.enabled:false}")
+    private boolean enabled;
+
+    @Value("${batch.person.dedup.filter-file:./data/person-email-bloom.bin}")
+    private Path filterFile;
+
+    @Value("${batch.person.dedup.expected-emails:1000000}")
+    private long expectedEmails;
+
+    @Value("${batch.person.dedup.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private volatile EmailBloomFilter filter;
+
+    // 실행 중인 Job 실행(JobExecution ID)별 중복 건수 (파티션 워커도 같은 JobExecution ID를 가짐)
+    private final Map<Long, AtomicLong> duplicateCounts = new ConcurrentHashMap<>();
+
+    // 리스너 콜백이 시작되고 아직 끝나지 않은 Step 수
+    private int activeSteps;
+
+    // 아직 트랜잭션이 끝나지 않은 청크가 차지한 이메일
+    private final Set<String> inFlightEmails = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 중복 제거 사용 여부 (비활성화 상태에서는 리스너 콜백도 아무 일도 하지 않음)
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        if (!enabled) {
+            return;
+        }
+        duplicateCounts.putIfAbsent(stepExecution.getJobExecutionId(), new AtomicLong());
+        synchronized (this) {
+            activeSteps++;
+        }
+        loadFilter();
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        if (!enabled) {
+            return null;
+        }
+        AtomicLong count = duplicateCounts.remove(stepExecution.getJobExecutionId());
+        long duplicates = count == null ? 0 : count.get();
+        stepExecution.getExecutionContext().putLong(DUPLICATE_COUNT_KEY, duplicates);
+        log.info("Step {} skipped {} duplicate emails", stepExecution.getStepName(), duplicates);
+        saveFilter();
+        synchronized (this) {
+            // 트랜잭션 밖에서 차지한 이메일은 동시에 실행 중인 Step이 없을 때만 정리
+            if (--activeSteps <= 0) {
+                activeSteps = 0;
+                inFlightEmails.clear();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 청크에서 이미 저장된 이메일, 다른 청크가 처리 중인 이메일과 청크 안의 중복을 제외한 Person 목록 반환
+     * 트랜잭션 안에서 호출하면 차지한 이메일은 트랜잭션이 끝날 때(커밋 / 롤백) 처리 중 목록에서 빠짐
+     */
+    public List<Person> removeDuplicates(List<? extends Person> persons) {
+        EmailBloomFilter currentFilter = loadFilter();
+        AtomicLong duplicates = currentDuplicateCount();
+
+        // DB 확인보다 먼저 차지해야 다른 청크가 커밋한 직후의 빈틈 없이 중복을 걸러낼 수 있음
+        String[] emails = new String[persons.size()];
+        boolean[] claimedElsewhere = new boolean[persons.size()];
+        List<String> claimed = new ArrayList<>(persons.size());
+        List<String> suspects = new ArrayList<>();
+        for (int i = 0; i < persons.size(); i++) {
+            String email = normalize(persons.get(i).getEmail());
+            emails[i] = email;
+            if (email == null) {
+                continue;
+            }
+            if (!inFlightEmails.add(email)) {
+                // 다른 청크가 처리 중이거나 같은 청크에 이미 나온 이메일
+                claimedElsewhere[i] = true;
+                continue;
+            }
+            claimed.add(email);
+            if (currentFilter.mightContain(email)) {
+                suspects.add(email);
+            }
+        }
+        releaseAfterCompletion(claimed);
+
+        // 필터에 걸린 이메일만 DB에서 한 번에 확인 (오탐 제거)
+        Set<String> existing = suspects.isEmpty()
+                ? Set.of()
+                : new HashSet<>(personRepository.findExistingEmails(suspects));
+
+        List<Person> unique = new ArrayList<>(persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            String email = emails[i];
+            if (email == null) {
+                unique.add(persons.get(i));
+                continue;
+            }
+            if (claimedElsewhere[i] || existing.contains(email)) {
+                if (duplicates != null) {
+                    duplicates.incrementAndGet();
+                }
+                continue;
+            }
+            unique.add(persons.get(i));
+            currentFilter.put(email);
+        }
+
+        if (unique.size() < persons.size()) {
+            log.debug("Removed {} duplicate emails from chunk", persons.size() - unique.size());
+        }
+        return unique;
+    }
+
+    /**
+     * 저장 / 비교에 사용하는 이메일 형식 (앞뒤 공백 제거 + 소문자)
+     * Person을 만드는 Processor도 같은 형식으로 저장해야 IN 쿼리 확인이 맞음
+     */
+    public static String normalize(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 현재 Step 스레드가 속한 Job 실행의 중복 건수 (Step 밖에서 호출하면 null)
+     */
+    private AtomicLong currentDuplicateCount() {
+        StepContext stepContext = StepSynchronizationManager.getContext();
+        if (stepContext == null) {
+            return null;
+        }
+        return duplicateCounts.get(stepContext.getStepExecution().getJobExecutionId());
+    }
+
+    private void releaseAfterCompletion(List<String> claimed) {
+        if (claimed.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 트랜잭션 밖에서는 실행 중인 Step이 모두 끝날 때까지 유지 (afterStep에서 비움)
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                claimed.forEach(inFlightEmails::remove);
+            }
+        });
+    }
+
+    private EmailBloomFilter loadFilter() {
+        EmailBloomFilter current = filter;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (filter == null) {
+                filter = readFilterFile();
+            }
+            return filter;
+        }
+    }
+
+    private EmailBloomFilter readFilterFile() {
+        if (Files.exists(filterFile)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filterFile)))) {
+                EmailBloomFilter loaded = EmailBloomFilter.readFrom(in);
+                log.info("Loaded email bloom filter from {} ({} bits)", filterFile, loaded.getBitCount());
+                return loaded;
+            } catch (IOException e) {
+                log.warn("Could not read email bloom filter {}, rebuilding it from the database: {}", filterFile, e.getMessage());
+            }
+        }
+        return buildFilterFromDatabase();
+    }
+
+    /**
+     * person 테이블의 이메일을 스트리밍으로 읽어 필터를 새로 만듦 (필터 파일이 없을 때)
+     */
+    private EmailBloomFilter buildFilterFromDatabase() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(SEED_FETCH_SIZE);
+
+        Long existingCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM person WHERE email IS NOT NULL", Long.class);
+        long count = existingCount == null ? 0 : existingCount;
+        EmailBloomFilter seeded = EmailBloomFilter.create(Math.max(expectedEmails, count), falsePositiveRate);
+        jdbcTemplate.query("SELECT email FROM person WHERE email IS NOT NULL",
+                (RowCallbackHandler) rs -> seeded.put(normalize(rs.getString(1))));
+        log.info("Built email bloom filter from {} existing emails ({} bits)", count, seeded.getBitCount());
+        return seeded;
+    }
+
+    private synchronized void saveFilter() {
+        if (filter == null) {
+            return;
+        }
+        try {
+            Path parent = filterFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            // 임시 파일에 쓴 뒤 교체하여 저장 중 실패해도 기존 필터 파일이 깨지지 않게 함
+            Path tempFile = filterFile.resolveSibling(filterFile.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                filter.writeTo(out);
+            }
+            Files.move(tempFile, filterFile, StandardCopyOption.REPLACE_EXISTING);
+            log.info("Saved email bloom filter to {}", filterFile);
+        } catch (IOException e) {
+            log.error("Failed to save email bloom filter to {}: {}", filterFile, e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.springbatch.batch;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * Hibernate pooled 옵티마이저와 같은 규칙으로 시퀀스에서 ID 블록을 할당하는 생성기
+ *
+ * 엔티티의 시퀀스는 allocationSize(= INCREMENT BY)만큼 증가하며, pooled 옵티마이저는 받은 값 v를
+ * 블록의 상한으로 보고 (v - allocationSize, v] 구간의 ID를 사용합니다.
+ * 이 생성기도 같은 구간을 사용하므로 NEXT VALUE FOR를 행마다 호출할 때처럼 ID가 50씩 건너뛰지 않고,
+ * 같은 시퀀스를 쓰는 Hibernate 저장과도 ID가 겹치지 않습니다.
+ *
+ * 남은 ID는 다음 호출에서 이어서 사용하며, 롤백된 청크가 받았던 ID는 재사용하지 않습니다 (Hibernate와 같은 빈 구간).
+ */
+public class PooledSequenceIdAllocator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String nextValueSql;
+    private final int allocationSize;
+
+    // 다음에 줄 ID와 현재 블록의 상한 (next > hi이면 블록 소진)
+    private long next = 1;
+    private long hi = 0;
+
+    public PooledSequenceIdAllocator(DataSource dataSource, String sequenceName, int allocationSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.nextValueSql = "SELECT NEXT VALUE FOR " + sequenceName;
+        this.allocationSize = allocationSize;
+    }
+
+    /**
+     * count개의 ID를 할당 (블록이 모자라면 시퀀스에서 다음 블록을 받음)
+     */
+    public synchronized long[] allocate(int count) {
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            if (next > hi) {
+                hi = jdbcTemplate.queryForObject(nextValueSql, Long.class);
+                // 시퀀스 초기값(1)처럼 상한이 allocationSize보다 작으면 1부터 상한까지만 사용
+                next = Math.max(1, hi - allocationSize + 1);
+            }
+            ids[i] = next++;
+        }
+        return ids;
+    }
+}
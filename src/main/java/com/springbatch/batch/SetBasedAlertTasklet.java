@@ -0,0 +1,188 @@
+package com.springbatch.batch;
+
+import com.springbatch.entity.AlertMetric;
+import com.springbatch.entity.AlertOperator;
+import com.springbatch.entity.AlertRule;
+import com.springbatch.entity.AlertType;
+import com.springbatch.entity.OutboxStatus;
+import com.springbatch.entity.WeatherAlert;
+import com.springbatch.repository.AlertRuleRepository;
+import com.springbatch.service.AlertSuppressionIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 알림 규칙마다 INSERT INTO weather_alerts ... SELECT ... FROM weather_data 한 문장으로 알림을 만드는 Tasklet
+ *
+ * 행마다 Java에서 규칙을 평가하는 weatherAlertStep과 같은 결과를 DB 안에서 집합 단위로 만듭니다.
+ * - 규칙과 일치하는 처리 구간 (since, until] 안의 데이터 중 도시별 가장 최근 행 하나로 알림 생성 (Reader가 최신 순으로 읽는 것과 같음)
+ * - NOT EXISTS로 억제 기간 안의 미해제 동일 알림이 있는 도시는 제외 (findRecentSimilarAlerts와 같은 조건)
+ * - 같은 날씨 데이터로 같은 유형의 알림이 이미 있으면 제외 (워터마크 겹침 구간을 다시 평가해도 중복되지 않음)
+ * - 규칙은 (알림 유형, 수준 내림차순)으로 실행되므로 같은 유형은 가장 높은 수준의 규칙만 알림이 됨
+ * - 만든 알림에는 step_execution_id로 이 Step 실행을 표시하고, 그 표시로 찾은 알림만 채널별 발송 대기열(alert_outbox)에 기록
+ *   (같은 시각에 다른 경로(실시간 평가기 등)가 만든 알림과 섞이지 않음)
+ *
+ * 만든 알림은 중복 방지 인덱스(AlertSuppressionIndex)에도 기록하여 실시간 평가기가 같은 알림을 다시 만들지 않게 합니다.
+ * 실행 중에는 인덱스의 쓰기 잠금을 잡아(lockExclusively) 커밋되지 않은 실시간 저장과 서로의 알림을 놓치지 않도록 직렬화합니다.
+ *
+ * ID는 엔티티와 같은 시퀀스에서 행마다 직접 가져오므로 Hibernate가 할당하는 ID와 겹치지 않습니다.
+ * 시퀀스가 allocationSize(50)씩 증가하므로 이 경로로 만든 행의 ID는 50씩 건너뛰며, 이 빈 구간은 의도된 것입니다
+ * (규칙당 알림 수가 도시 수 이하라 ID 공간 낭비가 크지 않음).
+ * JdbcTemplate은 Step 트랜잭션에 묶인 커넥션을 사용하므로 모든 문장이 한 트랜잭션으로 커밋됩니다.
+ * 삽입한 알림 수는 Step의 writeCount로 기록됩니다.
+ */
+@Slf4j
+public class SetBasedAlertTasklet implements Tasklet {
+
+    private static final String INSERT_ALERTS_SQL = """
+            INSERT INTO weather_alerts (id, city_code, city_name, alert_type, alert_level, alert_title, alert_message,
+                                        trigger_value, threshold_value, weather_data_id, alert_time,
+                                        is_sent, is_resolved, created_at, step_execution_id)
+            SELECT NEXT VALUE FOR weather_alerts_seq, m.city_code, m.city_name, ?, ?,
+                   CONCAT(m.city_name, ?), CONCAT(m.city_name, ?, CAST(ROUND(m.trigger_value, 1) AS VARCHAR), ?),
+                   m.trigger_value, ?, m.id, ?, FALSE, FALSE, ?, ?
+            FROM (SELECT w.id, w.city_code, w.city_name, %1$s AS trigger_value,
+                         ROW_NUMBER() OVER (PARTITION BY w.city_code ORDER BY w.collected_at DESC, w.id DESC) AS rn
+                  FROM weather_data w
+                  WHERE w.collected_at > ? AND w.collected_at <= ? AND %1$s %2$s ?%3$s) m
+            WHERE m.rn = 1
+              AND NOT EXISTS (SELECT 1 FROM weather_alerts a
+                              WHERE a.city_code = m.city_code AND a.alert_type = ?
+                                AND a.is_resolved = FALSE AND a.alert_time > ?)
+              AND NOT EXISTS (SELECT 1 FROM weather_alerts d
+                              WHERE d.weather_data_id = m.id AND d.alert_type = ?)
+            """;
+
+    private static final String INSERT_OUTBOX_SQL = """
+            INSERT INTO alert_outbox (id, alert_id, channel, title, message, status, attempts, next_attempt_at, created_at)
+            SELECT NEXT VALUE FOR alert_outbox_seq, a.id, ?, a.alert_title, a.alert_message, ?, 0, ?, ?
+            FROM weather_alerts a
+            WHERE a.step_execution_id = ?
+              AND NOT EXISTS (SELECT 1 FROM alert_outbox o WHERE o.alert_id = a.id AND o.channel = ?)
+            """;
+
+    private static final String SELECT_INSERTED_SQL = """
+            SELECT city_code, alert_type, alert_time FROM weather_alerts WHERE step_execution_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AlertRuleRepository alertRuleRepository;
+    private final AlertSuppressionIndex alertSuppressionIndex;
+    private final Duration suppressionWindow;
+    private final List<String> outboxChannels;
+
+    public SetBasedAlertTasklet(DataSource dataSource, AlertRuleRepository alertRuleRepository,
+                                AlertSuppressionIndex alertSuppressionIndex,
+                                Duration suppressionWindow, List<String> outboxChannels) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.alertRuleRepository = alertRuleRepository;
+        this.alertSuppressionIndex = alertSuppressionIndex;
+        this.suppressionWindow = suppressionWindow;
+        this.outboxChannels = outboxChannels;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        // 처리 구간은 AlertWatermarkListener가 Step ExecutionContext에 저장한 값 (지난 실행 이후 데이터만)
+        StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+        ExecutionContext context = stepExecution.getExecutionContext();
+        Timestamp since = Timestamp.valueOf(AlertWatermarkListener.since(context));
+        Timestamp until = Timestamp.valueOf(AlertWatermarkListener.until(context));
+        Long stepExecutionId = stepExecution.getId();
+
+        // 진행 중인 실시간 저장이 커밋될 때까지 기다린 뒤, Step 트랜잭션이 끝날 때까지 새 저장을 막음
+        alertSuppressionIndex.lockExclusively();
+
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp nowTs = Timestamp.valueOf(now);
+        Timestamp recent = Timestamp.valueOf(now.minus(suppressionWindow));
+
+        List<AlertRule> rules = alertRuleRepository.findByEnabledTrue().stream()
+                .sorted(Comparator.comparing(AlertRule::getAlertType)
+                        .thenComparing(AlertRule::getAlertLevel, Comparator.reverseOrder()))
+                .toList();
+
+        int inserted = 0;
+        for (AlertRule rule : rules) {
+            List<Object> args = new ArrayList<>();
+            args.add(rule.getAlertType().name());
+            args.add(rule.getAlertLevel().name());
+            args.add(" " + rule.getAlertType().getKoreanName() + " " + rule.getAlertLevel().getKoreanName());
+            args.add(" 지역 " + rule.getMetric().getKoreanName() + ": ");
+            args.add(String.format(" (기준 %s %.1f)", rule.getOperator().getSymbol(), rule.getThreshold()));
+            args.add(rule.getThreshold());
+            args.add(nowTs);
+            args.add(nowTs);
+            args.add(stepExecutionId);
+            args.add(since);
+            args.add(until);
+            args.add(rule.getThreshold());
+            if (rule.getCityCode() != null) {
+                args.add(rule.getCityCode());
+            }
+            args.add(rule.getAlertType().name());
+            args.add(recent);
+            args.add(rule.getAlertType().name());
+
+            int count = jdbcTemplate.update(buildInsertSql(rule), args.toArray());
+            inserted += count;
+            log.info("Rule {} ({} {} {} {}): {} alerts", rule.getId(), rule.getAlertType(),
+                    rule.getMetric(), rule.getOperator().getSymbol(), rule.getThreshold(), count);
+        }
+
+        if (inserted > 0) {
+            for (String channel : outboxChannels) {
+                jdbcTemplate.update(INSERT_OUTBOX_SQL,
+                        channel, OutboxStatus.PENDING.name(), nowTs, nowTs, stepExecutionId, channel);
+            }
+            // Step 트랜잭션이 롤백되면 인덱스 기록도 되돌려짐
+            alertSuppressionIndex.record(jdbcTemplate.query(SELECT_INSERTED_SQL, (rs, rowNum) -> {
+                WeatherAlert alert = new WeatherAlert();
+                alert.setCityCode(rs.getString("city_code"));
+                alert.setAlertType(AlertType.valueOf(rs.getString("alert_type")));
+                alert.setAlertTime(rs.getTimestamp("alert_time").toLocalDateTime());
+                return alert;
+            }, stepExecutionId));
+        }
+
+        contribution.incrementWriteCount(inserted);
+        log.info("Generated {} weather alerts with {} set-based rules", inserted, rules.size());
+        return RepeatStatus.FINISHED;
+    }
+
+    private String buildInsertSql(AlertRule rule) {
+        String operator = rule.getOperator() == AlertOperator.GREATER_OR_EQUAL ? ">=" : "<=";
+        String cityFilter = rule.getCityCode() != null ? " AND w.city_code = ?" : "";
+        return String.format(INSERT_ALERTS_SQL, metricExpression(rule.getMetric()), operator, cityFilter);
+    }
+
+    /**
+     * 측정값에 해당하는 weather_data 컬럼 식 (CompiledAlertRules.extract()와 같은 값)
+     */
+    private static String metricExpression(AlertMetric metric) {
+        return switch (metric) {
+            case TEMPERATURE -> "w.temperature";
+            case FEELS_LIKE -> "w.feels_like";
+            case HUMIDITY -> "w.humidity";
+            case WIND_SPEED -> "w.wind_speed";
+            case RAINFALL -> "w.rainfall";
+            case SNOWFALL -> "w.snowfall";
+            case VISIBILITY -> "w.visibility";
+            case TEMPERATURE_CHANGE -> "ABS(w.temperature_change)";
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package com.springbatch.batch;
+
+import com.springbatch.entity.WeatherData;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * weather_data 행을 WeatherData로 변환하는 RowMapper
+ *
+ * BeanPropertyRowMapper처럼 행마다 리플렉션으로 프로퍼티를 찾지 않고 컬럼을 직접 읽습니다.
+ * SELECT_COLUMNS와 같은 컬럼 목록으로 조회한 결과에 사용합니다.
+ */
+public class WeatherDataRowMapper implements RowMapper<WeatherData> {
+
+    public static final String SELECT_COLUMNS = "id, city_name, city_code, temperature, feels_like, temp_min, temp_max, "
+            + "humidity, pressure, weather_main, weather_description, cloudiness, wind_speed, wind_direction, "
+            + "rainfall, snowfall, visibility, collected_at, weather_time, is_abnormal, temperature_change";
+
+    @Override
+    public WeatherData mapRow(ResultSet rs, int rowNum) throws SQLException {
+        WeatherData weatherData = new WeatherData();
+        weatherData.setId(rs.getLong("id"));
+        weatherData.setCityName(rs.getString("city_name"));
+        weatherData.setCityCode(rs.getString("city_code"));
+        weatherData.setTemperature(getDouble(rs, "temperature"));
+        weatherData.setFeelsLike(getDouble(rs, "feels_like"));
+        weatherData.setTempMin(getDouble(rs, "temp_min"));
+        weatherData.setTempMax(getDouble(rs, "temp_max"));
+        weatherData.setHumidity(getInteger(rs, "humidity"));
+        weatherData.setPressure(getInteger(rs, "pressure"));
+        weatherData.setWeatherMain(rs.getString("weather_main"));
+        weatherData.setWeatherDescription(rs.getString("weather_description"));
+        weatherData.setCloudiness(getInteger(rs, "cloudiness"));
+        weatherData.setWindSpeed(getDouble(rs, "wind_speed"));
+        weatherData.setWindDirection(getInteger(rs, "wind_direction"));
+        weatherData.setRainfall(getDouble(rs, "rainfall"));
+        weatherData.setSnowfall(getDouble(rs, "snowfall"));
+        weatherData.setVisibility(getInteger(rs, "visibility"));
+        weatherData.setCollectedAt(getDateTime(rs, "collected_at"));
+        weatherData.setWeatherTime(getDateTime(rs, "weather_time"));
+        boolean abnormal = rs.getBoolean("is_abnormal");
+        weatherData.setIsAbnormal(rs.wasNull() ? null : abnormal);
+        weatherData.setTemperatureChange(getDouble(rs, "temperature_change"));
+        return weatherData;
+    }
+
+    private static Double getDouble(ResultSet rs, String column) throws SQLException {
+        double value = rs.getDouble(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static Integer getInteger(ResultSet rs, String column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static LocalDateTime getDateTime(ResultSet rs, String column) throws SQLException {
+        Timestamp value = rs.getTimestamp(column);
+        return value != null ? value.toLocalDateTime() : null;
+    }
+}
@@ -1,10 +1,21 @@
 package com.springbatch.config;
 
+import com.springbatch.batch.AdaptiveChunkCompletionPolicy;
+import com.springbatch.batch.AdaptiveChunkPolicyFactory;
+import com.springbatch.batch.AsyncItemSupport;
+import com.springbatch.batch.DecompressingResource;
+import com.springbatch.batch.EmailDeduplicatingItemWriter;
+import com.springbatch.batch.ImportThroughputListener;
+import com.springbatch.batch.PersonBulkInsertItemWriter;
+import com.springbatch.batch.PersonEmailDeduplicator;
 import com.springbatch.dto.PersonDto;
 import com.springbatch.entity.Person;
 import jakarta.persistence.EntityManagerFactory;
+import org.springframework.batch.core.ChunkListener;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
@@ -16,11 +27,15 @@ import org.springframework.batch.item.database.builder.JpaItemWriterBuilder;
 import org.springframework.batch.item.file.FlatFileItemReader;
 import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import javax.sql.DataSource;
+import java.util.concurrent.Future;
+
 /**
  * Spring Batch 설정을 담당하는 Configuration 클래스
  * 
@@ -42,13 +57,37 @@ public class BatchConfig {
     @Autowired
     private PlatformTransactionManager transactionManager;
     
+    // Step별 청크 크기 자동 조절 정책 생성기
+    @Autowired
+    private AdaptiveChunkPolicyFactory adaptiveChunkPolicyFactory;
+    
+    // 비동기 처리 모드(AsyncItemProcessor / AsyncItemWriter) 지원
+    @Autowired
+    private AsyncItemSupport asyncItemSupport;
+    
     // JPA EntityManager를 생성하는 Factory
     @Autowired
     private EntityManagerFactory entityManagerFactory;
     
+    // 벌크 로드 모드에서 JDBC로 직접 INSERT 하기 위한 DataSource
+    @Autowired
+    private DataSource dataSource;
+    
+    // Step 종료 시 처리량(rows/s)을 기록하는 리스너
+    @Autowired
+    private ImportThroughputListener importThroughputListener;
+    
+    // 이미 저장된 이메일을 걸러내는 중복 제거기 (Bloom 필터 + DB 확인)
+    @Autowired
+    private PersonEmailDeduplicator personEmailDeduplicator;
+    
     /**
      * 메인 배치 Job을 정의
      * 
+     * Job 파라미터:
+     * - inputFile: 읽을 CSV 파일 (생략 시 classpath:sample-data.csv)
+     * - writeMode: jpa(기본값) 또는 bulk (청크 단위 다중 행 INSERT)
+     * 
      * @param importStep CSV 파일을 읽어서 데이터베이스에 저장하는 Step
      * @return 설정된 Job 인스턴스
      */
@@ -64,31 +103,53 @@ public class BatchConfig {
      * 
      * @param reader CSV 파일을 읽는 ItemReader
      * @param processor 데이터를 변환하는 ItemProcessor
-     * @param writer 데이터베이스에 저장하는 ItemWriter
+     * @param personWriter 데이터베이스에 저장하는 ItemWriter (writeMode 파라미터에 따라 선택)
      * @return 설정된 Step 인스턴스
      */
     @Bean
     public Step importStep(ItemReader<PersonDto> reader,
                           ItemProcessor<PersonDto, Person> processor,
-                          ItemWriter<Person> writer) {
+                          ItemWriter<Person> personWriter) {
+        AdaptiveChunkCompletionPolicy chunkPolicy = adaptiveChunkPolicyFactory.create(3);
+        if (asyncItemSupport.isEnabled()) {
+            // 비동기 모드: 청크 안의 아이템을 동시에 처리하고, 쓰기는 읽은 순서대로 수행
+            return new StepBuilder("importStep", jobRepository)
+                    .<PersonDto, Future<Person>>chunk(chunkPolicy, transactionManager)
+                    .reader(reader)
+                    .processor(asyncItemSupport.processor(processor))
+                    .writer(asyncItemSupport.writer(personWriter))
+                    .listener(importThroughputListener)
+                    .listener(personEmailDeduplicator)
+                    .listener((ChunkListener) chunkPolicy)
+                    .listener((StepExecutionListener) chunkPolicy)
+                    .build();
+        }
         return new StepBuilder("importStep", jobRepository)
-                .<PersonDto, Person>chunk(3, transactionManager)  // 3개씩 묶어서 처리
+                .<PersonDto, Person>chunk(chunkPolicy, transactionManager)  // 3개부터 시작해 커밋 시간에 맞춰 자동 조절
                 .reader(reader)     // 데이터 읽기
                 .processor(processor)  // 데이터 가공
-                .writer(writer)     // 데이터 저장
+                .writer(personWriter)     // 데이터 저장
+                .listener(importThroughputListener)  // 처리량 기록
+                .listener(personEmailDeduplicator)   // 중복 제거 필터 로드/저장
+                .listener((ChunkListener) chunkPolicy)  // 청크별 커밋 시간 측정
+                .listener((StepExecutionListener) chunkPolicy)
                 .build();
     }
     
     /**
      * CSV 파일을 읽어서 PersonDto 객체로 변환하는 ItemReader
+     * gzip / zstd로 압축된 파일도 매직 바이트로 판별하여 디스크에 풀지 않고 바로 읽습니다.
      * 
+     * @param inputFile 읽을 CSV 파일 (inputFile Job 파라미터, 기본값 classpath:sample-data.csv)
      * @return CSV 파일을 읽는 FlatFileItemReader 인스턴스
      */
     @Bean
-    public FlatFileItemReader<PersonDto> reader() {
+    @StepScope
+    public FlatFileItemReader<PersonDto> reader(
+            @Value("#{jobParameters['inputFile'] ?: 'classpath:sample-data.csv'}") Resource inputFile) {
         return new FlatFileItemReaderBuilder<PersonDto>()
                 .name("personReader")  // Reader의 이름 설정
-                .resource(new ClassPathResource("sample-data.csv"))  // 읽을 CSV 파일 경로
+                .resource(new DecompressingResource(inputFile))  // 읽을 CSV 파일 (압축 파일은 스트리밍 해제)
                 .delimited()  // 구분자로 나누어진 파일임을 명시
                 .names("firstName", "lastName", "email")  // CSV 컬럼명과 DTO 필드 매핑
                 .linesToSkip(1)  // 첫 번째 줄(헤더) 건너뛰기
@@ -110,7 +171,7 @@ public class BatchConfig {
             // 데이터 변환 및 가공
             person.setFirstName(item.getFirstName().toUpperCase());  // 이름을 대문자로 변환
             person.setLastName(item.getLastName().toUpperCase());    // 성을 대문자로 변환
-            person.setEmail(item.getEmail().toLowerCase());          // 이메일을 소문자로 변환
+            person.setEmail(PersonEmailDeduplicator.normalize(item.getEmail()));  // 이메일 앞뒤 공백 제거 + 소문자 (중복 확인과 같은 형식)
             
             // 처리 중인 데이터 로그 출력
             System.out.println("데이터 처리 중: " + person.getFirstName() + " " + person.getLastName());
@@ -130,4 +191,30 @@ public class BatchConfig {
                 .entityManagerFactory(entityManagerFactory)  // JPA EntityManager 설정
                 .build();
     }
-}
\ No newline at end of file
+    
+    /**
+     * writeMode Job 파라미터에 따라 저장 방식을 선택하는 ItemWriter
+     * - jpa (기본값): JpaItemWriter로 Hibernate를 통해 저장
+     * - bulk: 청크 전체를 다중 행 INSERT 한 번으로 저장 (DB 왕복 최소화)
+     * 
+     * 이메일 중복 제거(batch.person.dedup.enabled=true)가 켜져 있으면
+     * 이미 저장된 이메일을 제외한 뒤 선택된 Writer에 넘깁니다.
+     * 
+     * @param writeMode 저장 방식
+     * @param writer JPA 기반 ItemWriter
+     * @return 선택된 ItemWriter
+     */
+    @Bean
+    @StepScope
+    public ItemWriter<Person> personWriter(@Value("#{jobParameters['writeMode'] ?: 'jpa'}") String writeMode,
+                                           JpaItemWriter<Person> writer) {
+        ItemWriter<Person> selected = "bulk".equalsIgnoreCase(writeMode)
+                ? new PersonBulkInsertItemWriter(dataSource)
+                : writer;
+        
+        if (personEmailDeduplicator.isEnabled()) {
+            return new EmailDeduplicatingItemWriter(selected, personEmailDeduplicator);
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,230 @@
+package com.springbatch.config;
+
+import com.springbatch.batch.AdaptiveChunkCompletionPolicy;
+import com.springbatch.batch.AdaptiveChunkPolicyFactory;
+import com.springbatch.batch.ByteRangeLineItemReader;
+import com.springbatch.batch.ByteRangePartitioner;
+import com.springbatch.batch.DecompressingResource;
+import com.springbatch.batch.ImportThroughputListener;
+import com.springbatch.batch.MappedPersonCsvItemReader;
+import com.springbatch.batch.PersonEmailDeduplicator;
+import com.springbatch.dto.PersonDto;
+import com.springbatch.entity.Person;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.partition.support.MultiResourcePartitioner;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.file.LineMapper;
+import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
+import org.springframework.batch.item.file.mapping.BeanWrapperFieldSetMapper;
+import org.springframework.batch.item.file.mapping.DefaultLineMapper;
+import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 여러 개의 Person CSV 파일을 병렬로 임포트하는 파티셔닝 배치 설정
+ *
+ * 배치 프로세스:
+ * 1. Manager Step: 입력 파일 패턴을 해석해 파티션을 생성
+ *    - file 모드: 파일 하나당 파티션 하나
+ *    - range 모드: 각 파일을 줄 경계에 맞춘 바이트 구간으로 나눠 구간 하나당 파티션 하나
+ * 2. Worker Step: 각 파티션이 자신의 파일(또는 구간)을 읽어 변환 후 저장 (TaskExecutor 스레드에서 병렬 실행)
+ *
+ * 파티션마다 별도의 StepExecution과 ExecutionContext를 가지므로
+ * 실패한 파티션만 읽던 위치부터 재시작됩니다.
+ */
+@Slf4j
+@Configuration
+public class PersonPartitionBatchConfig {
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Step별 청크 크기 자동 조절 정책 생성기
+    @Autowired
+    private AdaptiveChunkPolicyFactory adaptiveChunkPolicyFactory;
+
+    @Autowired
+    private ImportThroughputListener importThroughputListener;
+
+    @Autowired
+    private PersonEmailDeduplicator personEmailDeduplicator;
+
+    // 워커 스레드 수 (기본값: CPU 코어 수)
+    @Value("${batch.person.partition.pool-size:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int poolSize;
+
+    // 파티션 수 힌트 (file 모드에서는 파일 수가, range 모드에서는 파일당 구간 수가 됨)
+    @Value("${batch.person.partition.grid-size:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int gridSize;
+
+    // 워커 Step의 시작 청크 크기 (이후 커밋 시간에 맞춰 자동 조절)
+    @Value("${batch.person.partition.chunk-size:100}")
+    private int chunkSize;
+
+    /**
+     * 파티셔닝된 Person 임포트 Job
+     *
+     * Job 파라미터:
+     * - inputFiles: 읽을 파일 패턴 (예: file:/data/person/*.csv), 없으면 classpath의 sample-data.csv
+     * - partitionMode: file(기본값) 또는 range (큰 파일 하나를 여러 스레드로 나눠 읽을 때)
+     * - readerMode: flatfile(기본값) 또는 mapped (메모리 맵 기반 저할당 CSV 리더)
+     * - writeMode: jpa(기본값) 또는 bulk (청크 단위 다중 행 INSERT)
+     */
+    @Bean
+    public Job importPersonPartitionedJob(Step importManagerStep) {
+        return new JobBuilder("importPersonPartitionedJob", jobRepository)
+                .start(importManagerStep)
+                .build();
+    }
+
+    /**
+     * 파티션을 나누고 워커 Step을 병렬로 실행하는 Manager Step
+     */
+    @Bean
+    public Step importManagerStep(Partitioner personPartitioner,
+                                  Step importWorkerStep,
+                                  TaskExecutor personImportTaskExecutor) {
+        return new StepBuilder("importManagerStep", jobRepository)
+                .partitioner("importWorkerStep", personPartitioner)
+                .step(importWorkerStep)
+                .gridSize(gridSize)
+                .taskExecutor(personImportTaskExecutor)
+                .listener(importThroughputListener)  // 전체 파티션 합산 처리량 기록
+                .listener(personEmailDeduplicator)   // 모든 파티션이 공유하는 중복 제거 필터 로드/저장
+                .build();
+    }
+
+    /**
+     * 파티션 하나(파일 하나)를 처리하는 Worker Step
+     * 기존 importStep의 processor / personWriter를 그대로 재사용
+     */
+    @Bean
+    public Step importWorkerStep(ItemReader<PersonDto> partitionPersonReader,
+                                 ItemProcessor<PersonDto, Person> processor,
+                                 ItemWriter<Person> personWriter) {
+        AdaptiveChunkCompletionPolicy chunkPolicy = adaptiveChunkPolicyFactory.create(chunkSize);
+        return new StepBuilder("importWorkerStep", jobRepository)
+                .<PersonDto, Person>chunk(chunkPolicy, transactionManager)
+                .reader(partitionPersonReader)
+                .processor(processor)
+                .writer(personWriter)
+                .listener((ChunkListener) chunkPolicy)
+                .listener((StepExecutionListener) chunkPolicy)
+                .build();
+    }
+
+    /**
+     * partitionMode 파라미터에 따라 파티션을 나누는 Partitioner
+     * - file: 파일 하나당 파티션 하나 (ExecutionContext의 "fileName" 키에 파일 URL 저장)
+     * - range: 파일을 바이트 구간으로 분할 ("fileName", "range.start", "range.end" 키 저장)
+     */
+    @Bean
+    @StepScope
+    public Partitioner personPartitioner(
+            @Value("#{jobParameters['inputFiles'] ?: 'classpath*:sample-data.csv'}") String inputFiles,
+            @Value("#{jobParameters['partitionMode'] ?: 'file'}") String partitionMode) throws IOException {
+        Resource[] resources = new PathMatchingResourcePatternResolver().getResources(inputFiles);
+        log.info("Partitioning {} person files matched by {} (mode: {})", resources.length, inputFiles, partitionMode);
+
+        if ("range".equalsIgnoreCase(partitionMode)) {
+            return new ByteRangePartitioner(resources);
+        }
+
+        MultiResourcePartitioner partitioner = new MultiResourcePartitioner();
+        partitioner.setResources(resources);
+        partitioner.setKeyName(ByteRangePartitioner.FILE_NAME_KEY);
+        return partitioner;
+    }
+
+    /**
+     * 파티션에 할당된 파일 또는 바이트 구간을 읽는 ItemReader
+     * Step 범위 빈이므로 파티션마다 독립된 인스턴스가 생성되어 스레드 간 상태를 공유하지 않음
+     *
+     * gzip / zstd 압축 파일은 flatfile 리더로만 읽을 수 있습니다 (압축 스트림은 임의 위치 접근이 불가능).
+     */
+    @Bean
+    @StepScope
+    public ItemStreamReader<PersonDto> partitionPersonReader(
+            @Value("#{stepExecutionContext}") Map<String, Object> partitionContext,
+            @Value("#{jobParameters['readerMode'] ?: 'flatfile'}") String readerMode) throws IOException {
+        UrlResource resource = new UrlResource((String) partitionContext.get(ByteRangePartitioner.FILE_NAME_KEY));
+        boolean ranged = partitionContext.containsKey(ByteRangePartitioner.RANGE_START_KEY);
+        long start = ranged ? ((Number) partitionContext.get(ByteRangePartitioner.RANGE_START_KEY)).longValue() : 0L;
+        long end = ranged ? ((Number) partitionContext.get(ByteRangePartitioner.RANGE_END_KEY)).longValue() : -1L;
+
+        if ("mapped".equalsIgnoreCase(readerMode)) {
+            if (DecompressingResource.detect(resource) != DecompressingResource.Compression.NONE) {
+                throw new ItemStreamException("Mapped reader mode does not support compressed input: " + resource);
+            }
+            return new MappedPersonCsvItemReader("partitionPersonReader", resource, start, end, 1);
+        }
+
+        if (ranged) {
+            return new ByteRangeLineItemReader<>("partitionPersonReader", resource, start, end, 1, personLineMapper());
+        }
+
+        return new FlatFileItemReaderBuilder<PersonDto>()
+                .name("partitionPersonReader")
+                .resource(new DecompressingResource(resource))
+                .linesToSkip(1)
+                .lineMapper(personLineMapper())
+                .build();
+    }
+
+    /**
+     * 워커 Step을 병렬로 실행하는 스레드 풀
+     */
+    @Bean
+    public TaskExecutor personImportTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("person-import-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * CSV 한 줄을 PersonDto로 변환하는 LineMapper (BatchConfig.reader()와 동일한 매핑)
+     */
+    private LineMapper<PersonDto> personLineMapper() {
+        DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer();
+        tokenizer.setNames("firstName", "lastName", "email");
+
+        BeanWrapperFieldSetMapper<PersonDto> fieldSetMapper = new BeanWrapperFieldSetMapper<>();
+        fieldSetMapper.setTargetType(PersonDto.class);
+
+        DefaultLineMapper<PersonDto> lineMapper = new DefaultLineMapper<>();
+        lineMapper.setLineTokenizer(tokenizer);
+        lineMapper.setFieldSetMapper(fieldSetMapper);
+        return lineMapper;
+    }
+}
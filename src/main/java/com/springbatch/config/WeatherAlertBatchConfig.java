@@ -1,28 +1,51 @@
 package com.springbatch.config;
 
+import com.springbatch.batch.AdaptiveChunkCompletionPolicy;
+import com.springbatch.batch.AdaptiveChunkPolicyFactory;
+import com.springbatch.batch.AlertWatermarkListener;
+import com.springbatch.batch.AsyncItemSupport;
+import com.springbatch.batch.ExpireWeatherAlertsTasklet;
+import com.springbatch.batch.SetBasedAlertTasklet;
+import com.springbatch.batch.WeatherDataRowMapper;
 import com.springbatch.entity.WeatherAlert;
 import com.springbatch.entity.WeatherData;
-import com.springbatch.entity.AlertType;
-import com.springbatch.entity.AlertLevel;
-import com.springbatch.repository.WeatherDataRepository;
+import com.springbatch.repository.AlertRuleRepository;
 import com.springbatch.repository.WeatherAlertRepository;
+import com.springbatch.service.AlertRuleEngine;
+import com.springbatch.service.AlertSuppressionIndex;
+import com.springbatch.service.WeatherAlertStore;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.flow.FlowExecutionStatus;
+import org.springframework.batch.core.job.flow.JobExecutionDecider;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import javax.sql.DataSource;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /**
@@ -38,25 +61,116 @@ public class WeatherAlertBatchConfig {
     @Autowired
     private PlatformTransactionManager transactionManager;
     
+    // Step별 청크 크기 자동 조절 정책 생성기
     @Autowired
-    private WeatherDataRepository weatherDataRepository;
+    private AdaptiveChunkPolicyFactory adaptiveChunkPolicyFactory;
+    
+    // 비동기 처리 모드(AsyncItemProcessor / AsyncItemWriter) 지원
+    @Autowired
+    private AsyncItemSupport asyncItemSupport;
+    
+    // 최근 날씨 데이터를 JDBC로 페이지 단위 조회하기 위한 DataSource
+    @Autowired
+    private DataSource dataSource;
+    
+    // 알림 저장 + 채널별 발송 대기열 기록
+    @Autowired
+    private WeatherAlertStore weatherAlertStore;
+    
+    // 새 알림마다 발송 대기 항목을 만들 채널 목록 (집합 단위 SQL 모드에서 사용)
+    @Value("${weather.alert.outbox.channels:log}")
+    private List<String> outboxChannels;
+    
+    // alert_rules 테이블의 규칙을 컴파일한 평가기 (Step 시작 시와 규칙 변경 시 다시 컴파일)
+    @Autowired
+    private AlertRuleEngine alertRuleEngine;
+    
+    // (도시, 알림 유형)별 마지막 알림 시각 인덱스 (Step 시작 시 채우고 알림을 만들 때 갱신)
+    @Autowired
+    private AlertSuppressionIndex alertSuppressionIndex;
+    
+    // 지난 실행 이후의 데이터 구간을 정하고 성공 시 워터마크를 옮기는 리스너
+    @Autowired
+    private AlertWatermarkListener alertWatermarkListener;
+    
+    // 같은 도시 / 유형의 알림을 다시 만들지 않는 기간
+    @Value("${weather.alert.suppression-window:1h}")
+    private Duration suppressionWindow;
+    
+    @Autowired
+    private AlertRuleRepository alertRuleRepository;
     
     @Autowired
     private WeatherAlertRepository weatherAlertRepository;
     
-    // 임계값 설정
-    private static final double HEAT_WAVE_THRESHOLD = 35.0;
-    private static final double COLD_WAVE_THRESHOLD = -10.0;
-    private static final double HEAVY_RAIN_THRESHOLD = 50.0;
-    private static final double ABNORMAL_TEMP_CHANGE_THRESHOLD = 20.0;
+    // 이 기간보다 오래된 미해제 알림을 자동 해제 (억제 기간보다 길게)
+    @Value("${weather.alert.expiry.max-age:24h}")
+    private Duration expiryMaxAge;
+    
+    // 해제 UPDATE 한 번(한 트랜잭션)에 처리할 최대 알림 수
+    @Value("${weather.alert.expiry.batch-size:500}")
+    private int expiryBatchSize;
     
     /**
      * 날씨 알림 생성 Job
+     * 
+     * Job 파라미터:
+     * - alertMode: java(기본값, 행마다 규칙 평가) 또는 sql (규칙마다 INSERT ... SELECT 한 문장으로 DB에서 생성)
      */
     @Bean
-    public Job generateWeatherAlertsJob(Step weatherAlertStep) {
+    public Job generateWeatherAlertsJob(JobExecutionDecider weatherAlertModeDecider,
+                                        Step weatherAlertStep,
+                                        Step weatherAlertSqlStep) {
         return new JobBuilder("generateWeatherAlertsJob", jobRepository)
-                .start(weatherAlertStep)
+                .start(weatherAlertModeDecider)
+                .on("SQL").to(weatherAlertSqlStep)
+                .from(weatherAlertModeDecider).on("*").to(weatherAlertStep)
+                .end()
+                .build();
+    }
+    
+    /**
+     * 오래된 미해제 알림 자동 해제 Job
+     * 미해제 알림이 쌓이지 않게 하여 활성 알림 조회와 중복 방지 쿼리가 이력이 늘어도 빠르게 유지되도록 함
+     */
+    @Bean
+    public Job expireWeatherAlertsJob(Step expireWeatherAlertsStep) {
+        return new JobBuilder("expireWeatherAlertsJob", jobRepository)
+                .start(expireWeatherAlertsStep)
+                .build();
+    }
+    
+    /**
+     * 해제 대상 ID를 묶음 단위로 조회하여 UPDATE 한 문장씩 해제하는 Step (해제한 알림 수는 writeCount)
+     */
+    @Bean
+    public Step expireWeatherAlertsStep() {
+        ExpireWeatherAlertsTasklet tasklet = new ExpireWeatherAlertsTasklet(weatherAlertRepository,
+                alertSuppressionIndex, expiryMaxAge, expiryBatchSize);
+        return new StepBuilder("expireWeatherAlertsStep", jobRepository)
+                .tasklet(tasklet, transactionManager)
+                .build();
+    }
+    
+    /**
+     * alertMode Job 파라미터로 실행할 알림 생성 Step을 결정
+     */
+    @Bean
+    public JobExecutionDecider weatherAlertModeDecider() {
+        return (jobExecution, stepExecution) -> new FlowExecutionStatus(
+                jobExecution.getJobParameters().getString("alertMode", "java").toUpperCase());
+    }
+    
+    /**
+     * 규칙마다 집합 단위 SQL로 알림을 생성하는 Step (구간 안의 데이터가 많을 때 사용)
+     */
+    @Bean
+    public Step weatherAlertSqlStep() {
+        SetBasedAlertTasklet tasklet = new SetBasedAlertTasklet(dataSource, alertRuleRepository,
+                alertSuppressionIndex, suppressionWindow, outboxChannels);
+        return new StepBuilder("weatherAlertSqlStep", jobRepository)
+                .tasklet(tasklet, transactionManager)
+                .listener(alertWatermarkListener)  // 처리 구간 결정 / 워터마크 갱신
                 .build();
     }
     
@@ -67,116 +181,88 @@ public class WeatherAlertBatchConfig {
     public Step weatherAlertStep(ItemReader<WeatherData> recentWeatherDataReader,
                                 ItemProcessor<WeatherData, List<WeatherAlert>> alertProcessor,
                                 ItemWriter<List<WeatherAlert>> alertWriter) {
+        AdaptiveChunkCompletionPolicy chunkPolicy = adaptiveChunkPolicyFactory.create(10);
+        if (asyncItemSupport.isEnabled()) {
+            // 비동기 모드: 청크 안의 아이템을 동시에 처리하고, 쓰기는 읽은 순서대로 수행
+            return new StepBuilder("weatherAlertStep", jobRepository)
+                    .<WeatherData, Future<List<WeatherAlert>>>chunk(chunkPolicy, transactionManager)
+                    .reader(recentWeatherDataReader)
+                    .processor(asyncItemSupport.processor(alertProcessor))
+                    .writer(asyncItemSupport.writer(alertWriter))
+                    .listener(alertWatermarkListener)
+                    .listener(alertRuleEngine)
+                    .listener(alertSuppressionIndex)
+                    .listener((ChunkListener) chunkPolicy)
+                    .listener((StepExecutionListener) chunkPolicy)
+                    .build();
+        }
         return new StepBuilder("weatherAlertStep", jobRepository)
-                .<WeatherData, List<WeatherAlert>>chunk(10, transactionManager)
+                .<WeatherData, List<WeatherAlert>>chunk(chunkPolicy, transactionManager)
                 .reader(recentWeatherDataReader)
                 .processor(alertProcessor)
                 .writer(alertWriter)
+                .listener(alertWatermarkListener) // 처리 구간 결정 / 워터마크 갱신
+                .listener(alertRuleEngine)        // 알림 규칙 컴파일
+                .listener(alertSuppressionIndex)  // 최근 알림 시각 인덱스 준비
+                .listener((ChunkListener) chunkPolicy)
+                .listener((StepExecutionListener) chunkPolicy)
                 .build();
     }
     
     /**
      * 최근 날씨 데이터를 읽어오는 ItemReader
+     * 
+     * AlertWatermarkListener가 정한 수집 시각 구간 (since, until]의 데이터를 (collected_at DESC, id DESC) 키셋 페이지로 조회합니다.
+     * 지난 실행의 워터마크 이후(겹침 구간 포함) 데이터만 읽으므로 실행 비용은 새로 들어온 데이터 양에 비례합니다.
+     * 페이지마다 마지막 행의 정렬 키 다음부터 읽으므로 OFFSET 없이 일정한 비용으로 조회되고,
+     * 한 번에 한 페이지만 메모리에 두므로 구간 안의 데이터 양과 관계없이 힙 사용량이 일정합니다.
+     * 마지막으로 읽은 정렬 키를 ExecutionContext에 저장하여 재시작 시 그 다음 행부터 읽습니다.
      */
     @Bean
-    public ItemReader<WeatherData> recentWeatherDataReader() {
-        return new ItemReader<WeatherData>() {
-            private List<WeatherData> weatherDataList;
-            private int index = 0;
-            
-            @Override
-            public WeatherData read() {
-                if (weatherDataList == null) {
-                    // 최근 24시간 내 데이터 조회 (테스트를 위해 확장)
-                    LocalDateTime twoHoursAgo = LocalDateTime.now().minusHours(24);
-                    weatherDataList = weatherDataRepository
-                            .findByCollectedAtAfterOrderByCollectedAtDesc(twoHoursAgo);
-                    log.info("Loaded {} recent weather data records for alert processing", weatherDataList.size());
-                }
-                
-                if (index < weatherDataList.size()) {
-                    return weatherDataList.get(index++);
-                }
-                return null;
-            }
-        };
+    @StepScope
+    public JdbcPagingItemReader<WeatherData> recentWeatherDataReader(
+            @Value("#{stepExecution}") StepExecution stepExecution,
+            @Value("${weather.alert.reader.page-size:1000}") int pageSize,
+            @Value("${weather.alert.reader.fetch-size:1000}") int fetchSize) {
+        ExecutionContext context = stepExecution.getExecutionContext();
+        LocalDateTime since = AlertWatermarkListener.since(context);
+        LocalDateTime until = AlertWatermarkListener.until(context);
+        
+        // 정렬 키 순서가 곧 키셋 비교 순서 (id로 같은 시각의 행을 구분)
+        Map<String, Order> sortKeys = new LinkedHashMap<>();
+        sortKeys.put("collected_at", Order.DESCENDING);
+        sortKeys.put("id", Order.DESCENDING);
+        
+        return new JdbcPagingItemReaderBuilder<WeatherData>()
+                .name("recentWeatherDataReader")
+                .dataSource(dataSource)
+                .selectClause("SELECT " + WeatherDataRowMapper.SELECT_COLUMNS)
+                .fromClause("FROM weather_data")
+                .whereClause("WHERE collected_at > :since AND collected_at <= :until")
+                .parameterValues(Map.of("since", since, "until", until))
+                .sortKeys(sortKeys)
+                .pageSize(pageSize)
+                .fetchSize(fetchSize)
+                .rowMapper(new WeatherDataRowMapper())
+                .saveState(true)
+                .build();
     }
     
     /**
      * 날씨 데이터를 분석하여 알림을 생성하는 ItemProcessor
+     * 
+     * alert_rules 테이블의 규칙을 컴파일한 평가기로 모든 규칙을 한 번에 평가하고,
+     * 일치한 규칙 중 억제 기간에 걸리지 않은 것만 알림 후보로 만듭니다 (AlertRuleEngine.createAlerts()).
+     * 중복 방지 인덱스는 확인만 하며, 자리 차지는 저장에 성공하는 Writer 트랜잭션에서 수행됩니다.
      */
     @Bean
     public ItemProcessor<WeatherData, List<WeatherAlert>> alertProcessor() {
         return weatherData -> {
-            List<WeatherAlert> alerts = new ArrayList<>();
-            
             try {
                 log.debug("Processing weather data for alerts: {} - {}°C", 
                          weatherData.getCityName(), weatherData.getTemperature());
                 
-                // 폭염 경보 확인 (35도 이상)
-                if (weatherData.getTemperature() != null && weatherData.getTemperature() >= HEAT_WAVE_THRESHOLD) {
-                    if (!hasRecentSimilarAlert(weatherData.getCityCode(), AlertType.HEAT_WAVE)) {
-                        WeatherAlert heatWaveAlert = WeatherAlert.createHeatWaveAlert(
-                                weatherData.getCityCode(), 
-                                weatherData.getCityName(), 
-                                weatherData.getTemperature()
-                        );
-                        heatWaveAlert.setWeatherDataId(weatherData.getId());
-                        alerts.add(heatWaveAlert);
-                        log.info("Heat wave alert created for {}: {}°C", 
-                                weatherData.getCityName(), weatherData.getTemperature());
-                    }
-                }
-                
-                // 한파 주의보 확인 (-10도 이하)
-                if (weatherData.getTemperature() != null && weatherData.getTemperature() <= COLD_WAVE_THRESHOLD) {
-                    if (!hasRecentSimilarAlert(weatherData.getCityCode(), AlertType.COLD_WAVE)) {
-                        WeatherAlert coldWaveAlert = WeatherAlert.createColdWaveAlert(
-                                weatherData.getCityCode(), 
-                                weatherData.getCityName(), 
-                                weatherData.getTemperature()
-                        );
-                        coldWaveAlert.setWeatherDataId(weatherData.getId());
-                        alerts.add(coldWaveAlert);
-                        log.info("Cold wave alert created for {}: {}°C", 
-                                weatherData.getCityName(), weatherData.getTemperature());
-                    }
-                }
-                
-                // 호우 경보 확인 (시간당 50mm 이상 강수량)
-                if (isHeavyRainCondition(weatherData)) {
-                    if (!hasRecentSimilarAlert(weatherData.getCityCode(), AlertType.HEAVY_RAIN)) {
-                        // 강수량을 시뮬레이션 (실제로는 API에서 제공되어야 함)
-                        double simulatedRainfall = calculateHourlyRainfall(weatherData);
-                        WeatherAlert heavyRainAlert = WeatherAlert.createHeavyRainAlert(
-                                weatherData.getCityCode(), 
-                                weatherData.getCityName(), 
-                                simulatedRainfall
-                        );
-                        heavyRainAlert.setWeatherDataId(weatherData.getId());
-                        alerts.add(heavyRainAlert);
-                        log.info("Heavy rain alert created for {}: {}mm/h", 
-                                weatherData.getCityName(), simulatedRainfall);
-                    }
-                }
-                
-                // 이상 기후 알림 확인 (급격한 기온 변화)
-                if (weatherData.getTemperatureChange() != null && 
-                    Math.abs(weatherData.getTemperatureChange()) >= ABNORMAL_TEMP_CHANGE_THRESHOLD) {
-                    if (!hasRecentSimilarAlert(weatherData.getCityCode(), AlertType.ABNORMAL_WEATHER)) {
-                        WeatherAlert abnormalWeatherAlert = WeatherAlert.createAbnormalWeatherAlert(
-                                weatherData.getCityCode(), 
-                                weatherData.getCityName(), 
-                                weatherData.getTemperatureChange()
-                        );
-                        abnormalWeatherAlert.setWeatherDataId(weatherData.getId());
-                        alerts.add(abnormalWeatherAlert);
-                        log.info("Abnormal weather alert created for {}: {:+.1f}°C change", 
-                                weatherData.getCityName(), weatherData.getTemperatureChange());
-                    }
-                }
-                
+                List<WeatherAlert> alerts = alertRuleEngine.createAlerts(weatherData, LocalDateTime.now());
                 return alerts.isEmpty() ? null : alerts;
                 
             } catch (Exception e) {
@@ -199,74 +285,20 @@ public class WeatherAlertBatchConfig {
                     .collect(Collectors.toList());
             
             if (!allAlerts.isEmpty()) {
-                weatherAlertRepository.saveAll(allAlerts);
-                log.info("Saved {} new weather alerts", allAlerts.size());
+                // 중복 방지 인덱스 자리 차지 + 알림 저장 + 발송 대기열 기록
+                // (같은 트랜잭션, 실제 발송은 AlertOutboxDispatcher가 별도로 수행)
+                List<WeatherAlert> saved = weatherAlertStore.saveWithOutbox(allAlerts);
+                log.info("Saved {} new weather alerts", saved.size());
                 
                 // 알림별 상세 로깅
-                allAlerts.forEach(alert -> {
+                saved.forEach(alert -> {
                     log.info("Alert saved - {}: {} (Level: {}, Trigger: {})", 
                             alert.getCityName(), 
                             alert.getAlertTitle(),
                             alert.getAlertLevel(),
                             alert.getTriggerValue());
                 });
-                
-                // 알림 발송 처리 (여기서는 로깅으로 시뮬레이션)
-                processAlertNotifications(allAlerts);
             }
         };
     }
-    
-    /**
-     * 최근 유사한 알림이 있는지 확인 (중복 방지)
-     */
-    private boolean hasRecentSimilarAlert(String cityCode, AlertType alertType) {
-        LocalDateTime oneHourAgo = LocalDateTime.now().minusHours(1);
-        List<WeatherAlert> recentAlerts = weatherAlertRepository
-                .findRecentSimilarAlerts(cityCode, alertType, oneHourAgo);
-        return !recentAlerts.isEmpty();
-    }
-    
-    /**
-     * 호우 조건 확인
-     */
-    private boolean isHeavyRainCondition(WeatherData weatherData) {
-        // 비 관련 날씨 상태 확인
-        return weatherData.getWeatherMain() != null && 
-               (weatherData.getWeatherMain().equals("Rain") || 
-                weatherData.getWeatherMain().equals("Thunderstorm"));
-    }
-    
-    /**
-     * 시간당 강수량 계산 (시뮬레이션)
-     */
-    private double calculateHourlyRainfall(WeatherData weatherData) {
-        // 실제로는 API에서 제공하는 강수량 데이터를 사용해야 함
-        // 여기서는 습도와 날씨 상태를 기반으로 시뮬레이션
-        if (weatherData.getWeatherMain().equals("Thunderstorm")) {
-            return 60.0 + (Math.random() * 40.0); // 60-100mm
-        } else if (weatherData.getWeatherMain().equals("Rain")) {
-            return 50.0 + (Math.random() * 20.0); // 50-70mm
-        }
-        return 0.0;
-    }
-    
-    /**
-     * 알림 발송 처리 (시뮬레이션)
-     */
-    private void processAlertNotifications(List<WeatherAlert> alerts) {
-        alerts.forEach(alert -> {
-            try {
-                // 실제로는 이메일, SMS, 푸시 알림 등을 발송
-                log.info("📢 ALERT NOTIFICATION: {} - {}", alert.getAlertTitle(), alert.getAlertMessage());
-                
-                // 발송 상태 업데이트
-                alert.markAsSent();
-                weatherAlertRepository.save(alert);
-                
-            } catch (Exception e) {
-                log.error("Failed to send alert notification for {}: {}", alert.getAlertTitle(), e.getMessage());
-            }
-        });
-    }
 }
\ No newline at end of file
@@ -1,33 +1,52 @@
 package com.springbatch.config;
 
-import com.springbatch.dto.WeatherApiResponse;
+import com.springbatch.batch.AdaptiveChunkCompletionPolicy;
+import com.springbatch.batch.AdaptiveChunkPolicyFactory;
+import com.springbatch.batch.AsyncItemSupport;
+import com.springbatch.batch.CityReaderFactory;
+import com.springbatch.batch.ConcurrentWeatherCollectionWriter;
 import com.springbatch.entity.WeatherData;
 import com.springbatch.repository.WeatherDataRepository;
+import com.springbatch.service.CityCatalogService;
 import com.springbatch.service.WeatherApiService;
+import com.springbatch.service.WeatherDataConverter;
+import com.springbatch.service.WeatherHistoryIndex;
+import com.springbatch.service.WeatherIngestEventBus;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.flow.FlowExecutionStatus;
+import org.springframework.batch.core.job.flow.JobExecutionDecider;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JpaPagingItemReader;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
 
-import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.Future;
 
 /**
  * 날씨 데이터 수집을 위한 Spring Batch 설정
  * 
  * 배치 프로세스:
- * 1. ItemReader: 전국 주요 도시 목록 생성
+ * 1. ItemReader: 도시 카탈로그(cities 테이블)에서 수집 대상 도시 목록 조회
  * 2. ItemProcessor: 각 도시의 날씨 API 호출 및 데이터 변환
  * 3. ItemWriter: 날씨 데이터를 데이터베이스에 저장
+ * 
+ * collectionMode=concurrent Job 파라미터로 실행하면 도시별 block() 대신
+ * 청크 단위로 API를 동시에 호출하는 weatherConcurrentCollectionStep이 실행됩니다.
+ * collectionMode=group이면 같은 Step에서 도시를 그룹 조회 API로 묶어 요청 수를 줄입니다.
  */
 @Slf4j
 @Configuration
@@ -39,22 +58,77 @@ public class WeatherBatchConfig {
     @Autowired
     private PlatformTransactionManager transactionManager;
     
+    // Step별 청크 크기 자동 조절 정책 생성기
+    @Autowired
+    private AdaptiveChunkPolicyFactory adaptiveChunkPolicyFactory;
+    
+    // 비동기 처리 모드(AsyncItemProcessor / AsyncItemWriter) 지원
+    @Autowired
+    private AsyncItemSupport asyncItemSupport;
+    
+    // 도시 카탈로그 Reader 생성기
+    @Autowired
+    private CityReaderFactory cityReaderFactory;
+    
+    // 도시 코드 → 한글명 / OpenWeatherMap ID 캐시 (Step 시작 시 cities 테이블에서 다시 읽음)
+    @Autowired
+    private CityCatalogService cityCatalogService;
+    
     @Autowired
     private WeatherApiService weatherApiService;
     
     @Autowired
     private WeatherDataRepository weatherDataRepository;
     
+    @Autowired
+    private WeatherDataConverter weatherDataConverter;
+    
+    // 이상 기후 판정용 최근 48시간 온도 인덱스 (Step 시작 시 채우고 저장할 때 갱신)
+    @Autowired
+    private WeatherHistoryIndex weatherHistoryIndex;
+    
+    // 저장된 날씨 데이터를 실시간 알림 평가기로 넘기는 이벤트 버스
+    @Autowired
+    private WeatherIngestEventBus weatherIngestEventBus;
+    
+    // 동시 수집 Step의 청크 크기 (청크 하나가 한 번에 동시 요청되는 도시 묶음)
+    @Value("${weather.collection.chunk-size:100}")
+    private int concurrentChunkSize;
+    
     /**
      * 날씨 데이터 수집 Job 정의
+     * 
+     * Job 파라미터:
+     * - collectionMode: sequential(기본값, 도시마다 순서대로 호출), concurrent (청크 단위 동시 호출)
+     *   또는 group (그룹 조회 API로 최대 20개 도시씩 묶어서 호출)
+     * - concurrency: concurrent 모드의 최대 동시 요청 수 (기본값: weather.collection.concurrency)
      */
     @Bean
-    public Job collectWeatherDataJob(Step weatherCollectionStep) {
+    public Job collectWeatherDataJob(JobExecutionDecider weatherCollectionModeDecider,
+                                     Step weatherCollectionStep,
+                                     Step weatherConcurrentCollectionStep) {
         return new JobBuilder("collectWeatherDataJob", jobRepository)
-                .start(weatherCollectionStep)
+                .start(weatherCollectionModeDecider)
+                .on("CONCURRENT").to(weatherConcurrentCollectionStep)
+                .from(weatherCollectionModeDecider).on("*").to(weatherCollectionStep)
+                .end()
                 .build();
     }
     
+    /**
+     * collectionMode Job 파라미터로 실행할 수집 Step을 결정
+     */
+    @Bean
+    public JobExecutionDecider weatherCollectionModeDecider() {
+        return (jobExecution, stepExecution) -> {
+            String mode = jobExecution.getJobParameters().getString("collectionMode", "sequential");
+            if ("group".equalsIgnoreCase(mode)) {
+                return new FlowExecutionStatus("CONCURRENT");  // 같은 Step에서 그룹 조회로 실행
+            }
+            return new FlowExecutionStatus(mode.toUpperCase());
+        };
+    }
+    
     /**
      * 날씨 데이터 수집 Step 정의
      */
@@ -62,33 +136,74 @@ public class WeatherBatchConfig {
     public Step weatherCollectionStep(ItemReader<String> cityReader,
                                      ItemProcessor<String, WeatherData> weatherProcessor,
                                      ItemWriter<WeatherData> weatherWriter) {
+        AdaptiveChunkCompletionPolicy chunkPolicy = adaptiveChunkPolicyFactory.create(3);
+        if (asyncItemSupport.isEnabled()) {
+            // 비동기 모드: 청크 안의 아이템을 동시에 처리하고, 쓰기는 읽은 순서대로 수행
+            return new StepBuilder("weatherCollectionStep", jobRepository)
+                    .<String, Future<WeatherData>>chunk(chunkPolicy, transactionManager)
+                    .reader(cityReader)
+                    .processor(asyncItemSupport.processor(weatherProcessor))
+                    .writer(asyncItemSupport.writer(weatherWriter))
+                    .listener(cityCatalogService)
+                    .listener(weatherHistoryIndex)
+                    .listener((ChunkListener) chunkPolicy)
+                    .listener((StepExecutionListener) chunkPolicy)
+                    .build();
+        }
         return new StepBuilder("weatherCollectionStep", jobRepository)
-                .<String, WeatherData>chunk(3, transactionManager)
+                .<String, WeatherData>chunk(chunkPolicy, transactionManager)
                 .reader(cityReader)
                 .processor(weatherProcessor)
                 .writer(weatherWriter)
+                .listener(cityCatalogService)   // 도시 카탈로그 캐시 갱신
+                .listener(weatherHistoryIndex)  // 전날 온도 인덱스 준비
+                .listener((ChunkListener) chunkPolicy)
+                .listener((StepExecutionListener) chunkPolicy)
+                .build();
+    }
+    
+    /**
+     * 도시 목록을 청크 단위로 동시에 수집하는 Step
+     * 
+     * 청크 처리 시간이 API 지연 시간에 좌우되므로 커밋 시간 기반 자동 조절 대신 고정 청크 크기를 사용합니다.
+     */
+    @Bean
+    public Step weatherConcurrentCollectionStep(ItemReader<String> cityReader,
+                                               ConcurrentWeatherCollectionWriter concurrentWeatherWriter) {
+        return new StepBuilder("weatherConcurrentCollectionStep", jobRepository)
+                .<String, String>chunk(concurrentChunkSize, transactionManager)
+                .reader(cityReader)
+                .writer(concurrentWeatherWriter)
+                .listener(concurrentWeatherWriter)  // 실패한 도시 기록
+                .listener(cityCatalogService)       // 도시 카탈로그 캐시 갱신
+                .listener(weatherHistoryIndex)      // 전날 온도 인덱스 준비
                 .build();
     }
     
+    /**
+     * 청크의 도시들을 동시에 조회하여 저장하는 ItemWriter (실행마다 실패 목록을 새로 시작)
+     * collectionMode=group이면 weather.collection.group-size개씩 묶어서 그룹 조회
+     */
+    @Bean
+    @StepScope
+    public ConcurrentWeatherCollectionWriter concurrentWeatherWriter(
+            @Value("#{jobParameters['concurrency'] ?: ${weather.collection.concurrency:16}}") int concurrency,
+            @Value("#{jobParameters['collectionMode'] ?: 'concurrent'}") String collectionMode,
+            @Value("${weather.collection.group-size:20}") int groupSize) {
+        int effectiveGroupSize = "group".equalsIgnoreCase(collectionMode) ? groupSize : 1;
+        return new ConcurrentWeatherCollectionWriter(weatherApiService, weatherDataConverter,
+                weatherDataRepository, weatherHistoryIndex, weatherIngestEventBus, concurrency, effectiveGroupSize);
+    }
+    
     /**
      * 도시 목록을 읽어오는 ItemReader
-     * 전국 주요 도시 리스트를 순차적으로 반환
+     * 도시 카탈로그(cities 테이블)의 수집 대상 도시를 페이지 단위로 반환
+     * Step 범위 빈이므로 실행마다 처음 도시부터 다시 읽음 (재시작 시에는 저장된 위치부터)
      */
     @Bean
-    public ItemReader<String> cityReader() {
-        List<String> cities = List.of("Seoul", "Busan", "Incheon", "Daegu", "Daejeon", "Gwangju", "Ulsan", "Suwon");
-        
-        return new ItemReader<String>() {
-            private int index = 0;
-            
-            @Override
-            public String read() {
-                if (index < cities.size()) {
-                    return cities.get(index++);
-                }
-                return null; // 더 이상 읽을 데이터가 없음을 나타냄
-            }
-        };
+    @StepScope
+    public JpaPagingItemReader<String> cityReader() {
+        return cityReaderFactory.create("cityReader");
     }
     
     /**
@@ -100,19 +215,19 @@ public class WeatherBatchConfig {
             try {
                 log.info("Processing weather data for city: {}", cityCode);
                 
-                // API 호출하여 날씨 데이터 가져오기
-                WeatherApiResponse response = weatherApiService.getCurrentWeather(cityCode).block();
+                // API 호출하여 날씨 데이터(JSON 원문) 가져오기
+                byte[] response = weatherApiService.getCurrentWeatherJson(cityCode).block();
                 
                 if (response == null) {
                     log.warn("No weather data received for city: {}", cityCode);
                     return null;
                 }
                 
-                // WeatherData 엔티티로 변환
-                WeatherData weatherData = convertToWeatherData(response, cityCode);
+                // 스트리밍 파서로 WeatherData 엔티티에 바로 변환
+                WeatherData weatherData = weatherDataConverter.convertFromJson(response, cityCode);
                 
                 // 이상 기후 탐지
-                detectAbnormalWeather(weatherData);
+                weatherDataConverter.detectAbnormalWeather(weatherData);
                 
                 log.info("Successfully processed weather data for {}: {}°C, {}", 
                         weatherData.getCityName(), weatherData.getTemperature(), weatherData.getWeatherMain());
@@ -128,6 +243,7 @@ public class WeatherBatchConfig {
     
     /**
      * WeatherData를 데이터베이스에 저장하는 ItemWriter
+     * 저장한 데이터는 커밋 후 이벤트 버스로 발행되어 실시간 알림 평가 대상이 됨
      */
     @Bean
     public ItemWriter<WeatherData> weatherWriter() {
@@ -142,96 +258,11 @@ public class WeatherBatchConfig {
             
             if (!validData.isEmpty()) {
                 weatherDataRepository.saveAll(validData);
+                // 청크 트랜잭션이 커밋된 뒤 온도 인덱스에 반영하고 실시간 알림 평가기로 전달
+                weatherHistoryIndex.recordAfterCommit(validData);
+                weatherIngestEventBus.publishAfterCommit(validData);
                 log.info("Saved {} weather data records to database", validData.size());
             }
         };
     }
-    
-    /**
-     * WeatherApiResponse를 WeatherData 엔티티로 변환
-     */
-    private WeatherData convertToWeatherData(WeatherApiResponse response, String cityCode) {
-        WeatherData weatherData = new WeatherData();
-        LocalDateTime now = LocalDateTime.now();
-        
-        // 기본 정보
-        weatherData.setCityCode(cityCode);
-        weatherData.setCityName(weatherApiService.getCityNameInKorean(cityCode));
-        weatherData.setCollectedAt(now);
-        weatherData.setWeatherTime(now);
-        
-        // 온도 정보
-        if (response.getMain() != null) {
-            weatherData.setTemperature(response.getMain().getTemp());
-            weatherData.setFeelsLike(response.getMain().getFeelsLike());
-            weatherData.setTempMin(response.getMain().getTempMin());
-            weatherData.setTempMax(response.getMain().getTempMax());
-            weatherData.setHumidity(response.getMain().getHumidity());
-            weatherData.setPressure(response.getMain().getPressure());
-        }
-        
-        // 날씨 상태
-        if (response.getWeather() != null && !response.getWeather().isEmpty()) {
-            WeatherApiResponse.Weather weather = response.getWeather().get(0);
-            weatherData.setWeatherMain(weather.getMain());
-            weatherData.setWeatherDescription(weather.getDescription());
-        }
-        
-        // 바람 정보
-        if (response.getWind() != null) {
-            weatherData.setWindSpeed(response.getWind().getSpeed());
-            weatherData.setWindDirection(response.getWind().getDeg());
-        }
-        
-        // 구름 정보
-        if (response.getClouds() != null) {
-            weatherData.setCloudiness(response.getClouds().getAll());
-        }
-        
-        // 강수량 정보
-        if (response.getRain() != null && response.getRain().getOneHour() != null) {
-            weatherData.setRainfall(response.getRain().getOneHour());
-        }
-        
-        // 적설량 정보
-        if (response.getSnow() != null && response.getSnow().getOneHour() != null) {
-            weatherData.setSnowfall(response.getSnow().getOneHour());
-        }
-        
-        // 가시거리
-        weatherData.setVisibility(response.getVisibility());
-        
-        return weatherData;
-    }
-    
-    /**
-     * 이상 기후 탐지 로직
-     * 전날 동시간 대비 온도 변화량을 계산하여 20도 이상 차이나면 이상 기후로 판단
-     */
-    private void detectAbnormalWeather(WeatherData currentData) {
-        try {
-            LocalDateTime yesterday = currentData.getCollectedAt().minusDays(1);
-            LocalDateTime yesterdayStart = yesterday.toLocalDate().atStartOfDay();
-            LocalDateTime yesterdayEnd = yesterday.toLocalDate().atTime(23, 59, 59);
-            
-            var yesterdayDataList = weatherDataRepository.findByCityCodeAndCollectedAtBetweenOrderByCollectedAtDesc(
-                    currentData.getCityCode(), yesterdayStart, yesterdayEnd
-            );
-            
-            if (!yesterdayDataList.isEmpty() && currentData.getTemperature() != null) {
-                WeatherData yesterdayData = yesterdayDataList.get(0); // 가장 최근 데이터 사용
-                double temperatureChange = currentData.getTemperature() - yesterdayData.getTemperature();
-                currentData.setTemperatureChange(temperatureChange);
-                
-                // 전날 대비 20도 이상 변화 시 이상 기후로 판단
-                if (Math.abs(temperatureChange) >= 20.0) {
-                    currentData.setIsAbnormal(true);
-                    log.warn("Abnormal weather detected in {}: Temperature changed by {:.1f}°C from yesterday", 
-                            currentData.getCityName(), temperatureChange);
-                }
-            }
-        } catch (Exception e) {
-            log.debug("Could not detect abnormal weather for {}: {}", currentData.getCityName(), e.getMessage());
-        }
-    }
 }
\ No newline at end of file
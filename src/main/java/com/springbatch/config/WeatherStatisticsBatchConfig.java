@@ -1,18 +1,25 @@
 package com.springbatch.config;
 
+import com.springbatch.batch.AdaptiveChunkCompletionPolicy;
+import com.springbatch.batch.AdaptiveChunkPolicyFactory;
+import com.springbatch.batch.CityReaderFactory;
 import com.springbatch.entity.WeatherData;
 import com.springbatch.entity.WeatherStatistics;
 import com.springbatch.repository.WeatherDataRepository;
 import com.springbatch.repository.WeatherStatisticsRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JpaPagingItemReader;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -39,6 +46,14 @@ public class WeatherStatisticsBatchConfig {
     @Autowired
     private PlatformTransactionManager transactionManager;
     
+    // Step별 청크 크기 자동 조절 정책 생성기
+    @Autowired
+    private AdaptiveChunkPolicyFactory adaptiveChunkPolicyFactory;
+    
+    // 도시 카탈로그 Reader 생성기
+    @Autowired
+    private CityReaderFactory cityReaderFactory;
+    
     @Autowired
     private WeatherDataRepository weatherDataRepository;
     
@@ -62,32 +77,24 @@ public class WeatherStatisticsBatchConfig {
     public Step dailyStatisticsStep(ItemReader<String> cityListReader,
                                    ItemProcessor<String, WeatherStatistics> statisticsProcessor,
                                    ItemWriter<WeatherStatistics> statisticsWriter) {
+        AdaptiveChunkCompletionPolicy chunkPolicy = adaptiveChunkPolicyFactory.create(3);
         return new StepBuilder("dailyStatisticsStep", jobRepository)
-                .<String, WeatherStatistics>chunk(3, transactionManager)
+                .<String, WeatherStatistics>chunk(chunkPolicy, transactionManager)
                 .reader(cityListReader)
                 .processor(statisticsProcessor)
                 .writer(statisticsWriter)
+                .listener((ChunkListener) chunkPolicy)
+                .listener((StepExecutionListener) chunkPolicy)
                 .build();
     }
     
     /**
-     * 도시 목록을 읽어오는 ItemReader
+     * 도시 목록을 읽어오는 ItemReader (도시 카탈로그의 수집 대상 도시)
      */
     @Bean
-    public ItemReader<String> cityListReader() {
-        List<String> cities = List.of("Seoul", "Busan", "Incheon", "Daegu", "Daejeon", "Gwangju", "Ulsan", "Suwon");
-        
-        return new ItemReader<String>() {
-            private int index = 0;
-            
-            @Override
-            public String read() {
-                if (index < cities.size()) {
-                    return cities.get(index++);
-                }
-                return null;
-            }
-        };
+    @StepScope
+    public JpaPagingItemReader<String> cityListReader() {
+        return cityReaderFactory.create("cityListReader");
     }
     
     /**
@@ -8,9 +8,11 @@ import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 
 import java.util.List;
@@ -34,6 +36,11 @@ public class BatchController {
     @Autowired
     private Job importPersonJob;
     
+    // 여러 파일을 파티션 단위로 병렬 임포트하는 배치 Job
+    @Autowired
+    @Qualifier("importPersonPartitionedJob")
+    private Job importPersonPartitionedJob;
+    
     // 저장된 Person 데이터를 조회하기 위한 Repository
     @Autowired
     private PersonRepository personRepository;
@@ -43,16 +50,23 @@ public class BatchController {
      * 
      * POST /run-batch 요청 시 CSV 파일을 읽어서 데이터베이스에 저장하는 작업을 시작합니다.
      * 
+     * @param writeMode jpa(기본값) 또는 bulk(청크 단위 다중 행 INSERT)
+     * @param inputFile 읽을 CSV 파일 (예: file:/data/person.csv.gz, gzip / zstd 압축 파일 가능, 생략 시 sample-data.csv)
      * @return 배치 작업 실행 결과 메시지
      */
     @PostMapping("/run-batch")
     @ResponseBody
-    public String runBatch() {
+    public String runBatch(@RequestParam(defaultValue = "jpa") String writeMode,
+                           @RequestParam(required = false) String inputFile) {
         try {
             // 매번 다른 파라미터로 배치를 실행하기 위해 현재 시간을 파라미터로 사용
-            JobParameters params = new JobParametersBuilder()
+            JobParametersBuilder builder = new JobParametersBuilder()
                     .addLong("time", System.currentTimeMillis())  // 실행 시간을 파라미터로 추가
-                    .toJobParameters();
+                    .addString("writeMode", writeMode);           // 저장 방식
+            if (inputFile != null && !inputFile.isBlank()) {
+                builder.addString("inputFile", inputFile);
+            }
+            JobParameters params = builder.toJobParameters();
             
             // 배치 작업 실행
             JobExecution execution = jobLauncher.run(importPersonJob, params);
@@ -63,6 +77,45 @@ public class BatchController {
         }
     }
     
+    /**
+     * 여러 CSV 파일을 병렬로 임포트하는 파티셔닝 배치 실행 엔드포인트
+     * 
+     * POST /run-batch/partitioned?inputFiles=file:/data/person/*.csv&partitionMode=range&readerMode=mapped
+     * 
+     * @param inputFiles 읽을 파일 패턴 (생략 시 classpath의 sample-data.csv)
+     * @param partitionMode file(파일 단위, 기본값) 또는 range(큰 파일을 바이트 구간으로 분할)
+     * @param readerMode flatfile(기본값) 또는 mapped(메모리 맵 기반 리더)
+     * @param writeMode jpa(기본값) 또는 bulk(청크 단위 다중 행 INSERT)
+     * @return 배치 작업 실행 결과 메시지
+     */
+    @PostMapping("/run-batch/partitioned")
+    @ResponseBody
+    public String runPartitionedBatch(@RequestParam(required = false) String inputFiles,
+                                      @RequestParam(required = false) String partitionMode,
+                                      @RequestParam(required = false) String readerMode,
+                                      @RequestParam(defaultValue = "jpa") String writeMode) {
+        try {
+            JobParametersBuilder builder = new JobParametersBuilder()
+                    .addLong("time", System.currentTimeMillis())
+                    .addString("writeMode", writeMode);
+            if (inputFiles != null && !inputFiles.isBlank()) {
+                builder.addString("inputFiles", inputFiles);
+            }
+            if (partitionMode != null && !partitionMode.isBlank()) {
+                builder.addString("partitionMode", partitionMode);
+            }
+            if (readerMode != null && !readerMode.isBlank()) {
+                builder.addString("readerMode", readerMode);
+            }
+            
+            JobExecution execution = jobLauncher.run(importPersonPartitionedJob, builder.toJobParameters());
+            
+            return "파티셔닝 배치 작업이 시작되었습니다. 상태: " + execution.getStatus();
+        } catch (Exception e) {
+            return "배치 실행 중 오류 발생: " + e.getMessage();
+        }
+    }
+    
     /**
      * 데이터베이스에 저장된 모든 Person 데이터를 조회하는 엔드포인트
      * 
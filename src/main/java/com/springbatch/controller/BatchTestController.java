@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -13,6 +14,7 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 /**
@@ -34,6 +36,10 @@ public class BatchTestController {
     @Qualifier("generateWeatherAlertsJob")
     private Job weatherAlertsJob;
     
+    @Autowired
+    @Qualifier("expireWeatherAlertsJob")
+    private Job expireWeatherAlertsJob;
+    
     @Autowired
     private TestDataService testDataService;
     
@@ -78,14 +84,18 @@ public class BatchTestController {
     
     /**
      * 날씨 알림 배치 실행
+     * 
+     * @param alertMode java(기본값, 행마다 규칙 평가) 또는 sql (규칙마다 집합 단위 INSERT ... SELECT)
      */
     @PostMapping("/alerts")
-    public String runAlertsBatch(RedirectAttributes redirectAttributes) {
+    public String runAlertsBatch(@RequestParam(defaultValue = "java") String alertMode,
+                                 RedirectAttributes redirectAttributes) {
         try {
-            log.info("🚀 Starting Weather Alerts Batch Job...");
+            log.info("🚀 Starting Weather Alerts Batch Job (mode: {})...", alertMode);
             
             JobParameters jobParameters = new JobParametersBuilder()
                     .addLong("time", System.currentTimeMillis())
+                    .addString("alertMode", alertMode)
                     .toJobParameters();
             
             var jobExecution = jobLauncher.run(weatherAlertsJob, jobParameters);
@@ -105,6 +115,38 @@ public class BatchTestController {
         return "redirect:/batch-test";
     }
     
+    /**
+     * 오래된 미해제 알림 자동 해제 배치 실행
+     */
+    @PostMapping("/expire-alerts")
+    public String runExpireAlertsBatch(RedirectAttributes redirectAttributes) {
+        try {
+            log.info("🚀 Starting Expire Weather Alerts Batch Job...");
+            
+            JobParameters jobParameters = new JobParametersBuilder()
+                    .addLong("time", System.currentTimeMillis())
+                    .toJobParameters();
+            
+            var jobExecution = jobLauncher.run(expireWeatherAlertsJob, jobParameters);
+            
+            String status = jobExecution.getStatus().toString();
+            long resolvedCount = jobExecution.getStepExecutions().stream()
+                    .mapToLong(StepExecution::getWriteCount)
+                    .sum();
+            String message = String.format("알림 해제 배치가 완료되었습니다. 상태: %s, 해제된 알림: %d건", status, resolvedCount);
+            
+            log.info("✅ Expire Weather Alerts Batch completed with status: {} ({} alerts resolved)", status, resolvedCount);
+            redirectAttributes.addFlashAttribute("successMessage", message);
+            
+        } catch (Exception e) {
+            log.error("❌ Failed to run Expire Weather Alerts Batch: {}", e.getMessage(), e);
+            redirectAttributes.addFlashAttribute("errorMessage", 
+                "알림 해제 배치 실행 중 오류가 발생했습니다: " + e.getMessage());
+        }
+        
+        return "redirect:/batch-test";
+    }
+    
     /**
      * 두 배치 모두 실행
      */
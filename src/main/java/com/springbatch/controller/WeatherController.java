@@ -15,6 +15,7 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 
 import java.time.LocalDate;
@@ -51,19 +52,27 @@ public class WeatherController {
     
     /**
      * 날씨 데이터 수집 배치를 수동으로 실행하는 엔드포인트
+     * 
+     * @param collectionMode sequential(기본값), concurrent (청크 단위 동시 API 호출) 또는 group (그룹 조회 API)
+     * @param concurrency concurrent 모드의 최대 동시 요청 수 (생략 시 weather.collection.concurrency)
      */
     @PostMapping("/collect")
     @ResponseBody
-    public String collectWeatherData() {
+    public String collectWeatherData(@RequestParam(defaultValue = "sequential") String collectionMode,
+                                     @RequestParam(required = false) Long concurrency) {
         try {
             // API 키 설정 확인
             if (!weatherApiService.isApiKeyConfigured()) {
                 return "날씨 API 키가 설정되지 않았습니다. application.properties를 확인하세요.";
             }
             
-            JobParameters params = new JobParametersBuilder()
+            JobParametersBuilder builder = new JobParametersBuilder()
                     .addLong("time", System.currentTimeMillis())
-                    .toJobParameters();
+                    .addString("collectionMode", collectionMode);
+            if (concurrency != null) {
+                builder.addLong("concurrency", concurrency);
+            }
+            JobParameters params = builder.toJobParameters();
             
             JobExecution execution = jobLauncher.run(collectWeatherDataJob, params);
             
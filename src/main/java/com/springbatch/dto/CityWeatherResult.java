@@ -0,0 +1,44 @@
+package com.springbatch.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 도시 하나의 날씨 API 호출 결과 (성공 시 응답 DTO 또는 응답 JSON 원문, 실패 시 오류 메시지)
+ * 
+ * 동시 수집 시 한 도시의 실패가 전체 요청을 취소하지 않고
+ * 결과 목록에 실패로 남아 호출한 쪽에서 집계할 수 있도록 합니다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CityWeatherResult {
+    
+    // 요청한 도시 코드 (영문)
+    private final String cityCode;
+    
+    // API 응답 (그룹 조회로 받은 경우, 그 외에는 null)
+    private final WeatherApiResponse response;
+    
+    // 응답 JSON 원문 (도시별 조회로 받은 경우, 스트리밍 파서로 바로 변환)
+    private final byte[] rawJson;
+    
+    // 실패 사유 (성공 시 null)
+    private final String error;
+    
+    public static CityWeatherResult success(String cityCode, WeatherApiResponse response) {
+        return new CityWeatherResult(cityCode, response, null, null);
+    }
+    
+    public static CityWeatherResult success(String cityCode, byte[] rawJson) {
+        return new CityWeatherResult(cityCode, null, rawJson, null);
+    }
+    
+    public static CityWeatherResult failure(String cityCode, String error) {
+        return new CityWeatherResult(cityCode, null, null, error);
+    }
+    
+    public boolean isSuccess() {
+        return response != null || rawJson != null;
+    }
+}
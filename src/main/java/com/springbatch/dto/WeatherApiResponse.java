@@ -40,6 +40,9 @@ public class WeatherApiResponse {
     // 데이터 계산 시간 (유닉스 타임스탬프)
     private Long dt;
     
+    // 도시 ID (그룹 조회 응답을 도시별로 나눌 때 사용)
+    private Long id;
+    
     // 도시 이름
     private String name;
     
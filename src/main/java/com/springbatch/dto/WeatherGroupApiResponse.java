@@ -0,0 +1,23 @@
+package com.springbatch.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * OpenWeatherMap 그룹 조회(/group?id=...) 응답을 매핑하는 DTO 클래스
+ * 여러 도시의 현재 날씨가 list 배열에 도시 하나당 WeatherApiResponse 형태로 담겨 옵니다.
+ */
+@Data
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class WeatherGroupApiResponse {
+    
+    // 응답에 포함된 도시 수
+    private Integer cnt;
+    
+    // 도시별 현재 날씨
+    private List<WeatherApiResponse> list;
+}
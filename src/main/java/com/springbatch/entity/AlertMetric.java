@@ -0,0 +1,25 @@
+package com.springbatch.entity;
+
+/**
+ * 알림 규칙이 비교하는 날씨 측정값
+ */
+public enum AlertMetric {
+    TEMPERATURE("기온"),
+    FEELS_LIKE("체감 온도"),
+    HUMIDITY("습도"),
+    WIND_SPEED("풍속"),
+    RAINFALL("시간당 강수량"),
+    SNOWFALL("시간당 적설량"),
+    VISIBILITY("가시거리"),
+    TEMPERATURE_CHANGE("전날 대비 기온 변화폭");
+    
+    private final String koreanName;
+    
+    AlertMetric(String koreanName) {
+        this.koreanName = koreanName;
+    }
+    
+    public String getKoreanName() {
+        return koreanName;
+    }
+}
@@ -0,0 +1,19 @@
+package com.springbatch.entity;
+
+/**
+ * 알림 규칙의 비교 연산자 (측정값 연산자 임계값)
+ */
+public enum AlertOperator {
+    GREATER_OR_EQUAL(">="),
+    LESS_OR_EQUAL("<=");
+    
+    private final String symbol;
+    
+    AlertOperator(String symbol) {
+        this.symbol = symbol;
+    }
+    
+    public String getSymbol() {
+        return symbol;
+    }
+}
@@ -0,0 +1,86 @@
+package com.springbatch.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 발송 대기열(outbox) 엔티티
+ * 
+ * 알림과 같은 트랜잭션에서 채널별로 한 행씩 저장되고,
+ * AlertOutboxDispatcher가 별도로 읽어 발송한 뒤 상태를 갱신합니다.
+ */
+@Entity
+@Table(name = "alert_outbox",
+       indexes = {
+           @Index(name = "idx_alert_outbox_due", columnList = "status, next_attempt_at"),
+           @Index(name = "idx_alert_outbox_alert", columnList = "alert_id, channel"),
+           @Index(name = "idx_alert_outbox_created", columnList = "status, created_at")
+       })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlertOutbox {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "alert_outbox_seq")
+    @SequenceGenerator(name = "alert_outbox_seq", sequenceName = "alert_outbox_seq", allocationSize = 50)
+    private Long id;
+    
+    @Column(name = "alert_id", nullable = false)
+    private Long alertId;
+    
+    // 발송 채널 이름 (AlertChannel.getName())
+    @Column(name = "channel", nullable = false, length = 50)
+    private String channel;
+    
+    @Column(name = "title", nullable = false, length = 200)
+    private String title;
+    
+    @Column(name = "message", length = 1000)
+    private String message;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OutboxStatus status = OutboxStatus.PENDING;
+    
+    // 지금까지 실패한 발송 시도 횟수
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+    
+    // 다음 발송 시도 가능 시각 (실패 시 백오프만큼 뒤로 미룸)
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+    
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+    
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+    
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        if (this.nextAttemptAt == null) {
+            this.nextAttemptAt = this.createdAt;
+        }
+    }
+    
+    /**
+     * 저장된 알림 하나에 대한 채널별 발송 대기 항목 생성
+     */
+    public static AlertOutbox forAlert(WeatherAlert alert, String channel) {
+        AlertOutbox outbox = new AlertOutbox();
+        outbox.setAlertId(alert.getId());
+        outbox.setChannel(channel);
+        outbox.setTitle(alert.getAlertTitle());
+        outbox.setMessage(alert.getAlertMessage());
+        return outbox;
+    }
+}
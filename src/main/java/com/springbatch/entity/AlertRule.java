@@ -0,0 +1,77 @@
+package com.springbatch.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 날씨 알림 규칙 엔티티
+ * 
+ * "측정값 연산자 임계값"을 만족하면 지정한 유형 / 수준의 알림을 만듭니다 (예: TEMPERATURE >= 35.0 → 폭염 경보).
+ * cityCode가 없으면 모든 도시에 적용됩니다.
+ * 규칙을 바꾸면 AlertRuleEngine이 재시작 없이 다시 컴파일합니다.
+ */
+@Entity
+@Table(name = "alert_rules")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlertRule {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "alert_rules_seq")
+    @SequenceGenerator(name = "alert_rules_seq", sequenceName = "alert_rules_seq", allocationSize = 50)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "alert_type", nullable = false)
+    private AlertType alertType;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "alert_level", nullable = false)
+    private AlertLevel alertLevel;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric", nullable = false)
+    private AlertMetric metric;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operator", nullable = false)
+    private AlertOperator operator;
+    
+    @Column(name = "threshold", nullable = false)
+    private Double threshold;
+    
+    // 적용 도시 (null이면 모든 도시)
+    @Column(name = "city_code", length = 50)
+    private String cityCode;
+    
+    @Column(name = "enabled", nullable = false)
+    private Boolean enabled = true;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+    
+    /**
+     * 모든 도시에 적용되는 규칙 생성
+     */
+    public static AlertRule of(AlertType alertType, AlertLevel alertLevel,
+                               AlertMetric metric, AlertOperator operator, double threshold) {
+        AlertRule rule = new AlertRule();
+        rule.setAlertType(alertType);
+        rule.setAlertLevel(alertLevel);
+        rule.setMetric(metric);
+        rule.setOperator(operator);
+        rule.setThreshold(threshold);
+        return rule;
+    }
+}
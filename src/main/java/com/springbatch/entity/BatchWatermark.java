@@ -0,0 +1,38 @@
+package com.springbatch.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 증분 배치가 마지막으로 처리한 위치(high-water mark)를 저장하는 엔티티
+ * 
+ * 이름(예: weatherAlerts)마다 한 행이며, 다음 실행은 이 시각 이후의 데이터만 읽습니다.
+ */
+@Entity
+@Table(name = "batch_watermarks")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchWatermark {
+    
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+    
+    // 마지막으로 처리한 데이터의 수집 시각 (이 시각까지 처리 완료)
+    @Column(name = "watermark", nullable = false)
+    private LocalDateTime watermark;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
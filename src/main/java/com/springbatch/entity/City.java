@@ -0,0 +1,37 @@
+package com.springbatch.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 날씨 수집 대상 도시(관측 지점) 카탈로그 엔티티
+ * 
+ * 수집 / 통계 Job은 active인 도시를 코드 순으로 페이지 단위로 읽고,
+ * 코드 → 한글명 / OpenWeatherMap ID 조회는 CityCatalogService의 메모리 캐시를 사용합니다.
+ */
+@Entity
+@Table(name = "cities", indexes = @Index(name = "idx_cities_active_code", columnList = "active, code"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class City {
+    
+    // 도시 코드 (API 조회에 사용하는 영문명, 예: Seoul)
+    @Id
+    @Column(name = "code", length = 50)
+    private String code;
+    
+    // 한글 도시명
+    @Column(name = "name_ko", nullable = false, length = 100)
+    private String nameKo;
+    
+    // OpenWeatherMap 도시 ID (그룹 조회용, 없으면 도시별 조회)
+    @Column(name = "owm_id")
+    private Long owmId;
+    
+    // 수집 대상 여부
+    @Column(name = "active", nullable = false)
+    private Boolean active = true;
+}
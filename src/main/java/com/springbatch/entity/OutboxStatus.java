@@ -0,0 +1,20 @@
+package com.springbatch.entity;
+
+/**
+ * 알림 발송 대기열(outbox) 상태
+ */
+public enum OutboxStatus {
+    PENDING("대기"),
+    SENT("발송 완료"),
+    FAILED("발송 실패");
+    
+    private final String koreanName;
+    
+    OutboxStatus(String koreanName) {
+        this.koreanName = koreanName;
+    }
+    
+    public String getKoreanName() {
+        return koreanName;
+    }
+}
@@ -4,6 +4,9 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -18,14 +21,16 @@ import lombok.NoArgsConstructor;
  * @AllArgsConstructor - 모든 필드를 매개변수로 받는 생성자 자동 생성
  */
 @Entity
+@Table(indexes = @Index(name = "idx_person_email", columnList = "email"))  // 이메일 중복 확인 쿼리용
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Person {
     
-    // 기본키 - 자동으로 증가하는 ID
+    // 기본키 - 시퀀스에서 50개 단위로 미리 할당받는 ID (IDENTITY와 달리 JDBC 배치 INSERT 가능)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "person_seq")
+    @SequenceGenerator(name = "person_seq", sequenceName = "person_seq", allocationSize = 50)
     private Long id;
     
     // 사용자의 이름
@@ -11,14 +11,21 @@ import java.time.LocalDateTime;
  * 기상 특보 및 알림 정보를 저장하는 엔티티
  */
 @Entity
-@Table(name = "weather_alerts")
+@Table(name = "weather_alerts",
+       indexes = {
+           @Index(name = "idx_weather_alerts_recent", columnList = "city_code, alert_type, alert_time"),
+           @Index(name = "idx_weather_alerts_unresolved", columnList = "is_resolved, alert_time"),
+           @Index(name = "idx_weather_alerts_step_execution", columnList = "step_execution_id"),
+           @Index(name = "idx_weather_alerts_source", columnList = "weather_data_id, alert_type")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class WeatherAlert {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "weather_alerts_seq")
+    @SequenceGenerator(name = "weather_alerts_seq", sequenceName = "weather_alerts_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "city_code", nullable = false, length = 50)
@@ -68,6 +75,10 @@ public class WeatherAlert {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
+    // 집합 단위 SQL Step(SetBasedAlertTasklet)이 만든 알림의 Step 실행 ID (그 외 경로는 null)
+    @Column(name = "step_execution_id")
+    private Long stepExecutionId;
+    
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
@@ -134,6 +145,32 @@ public class WeatherAlert {
         return alert;
     }
     
+    public static WeatherAlert createHeavySnowAlert(String cityCode, String cityName, Double snowfall) {
+        WeatherAlert alert = new WeatherAlert();
+        alert.setCityCode(cityCode);
+        alert.setCityName(cityName);
+        alert.setAlertType(AlertType.HEAVY_SNOW);
+        alert.setAlertLevel(AlertLevel.ADVISORY);
+        alert.setTriggerValue(snowfall);
+        alert.setThresholdValue(5.0);
+        alert.setAlertTitle(String.format("%s 대설 주의보", cityName));
+        alert.setAlertMessage(String.format("%s 지역에 대설 주의보가 발령되었습니다. 시간당 적설량: %.1fmm", cityName, snowfall));
+        return alert;
+    }
+    
+    public static WeatherAlert createStrongWindAlert(String cityCode, String cityName, Double windSpeed) {
+        WeatherAlert alert = new WeatherAlert();
+        alert.setCityCode(cityCode);
+        alert.setCityName(cityName);
+        alert.setAlertType(AlertType.STRONG_WIND);
+        alert.setAlertLevel(AlertLevel.ADVISORY);
+        alert.setTriggerValue(windSpeed);
+        alert.setThresholdValue(14.0);
+        alert.setAlertTitle(String.format("%s 강풍 주의보", cityName));
+        alert.setAlertMessage(String.format("%s 지역에 강풍 주의보가 발령되었습니다. 풍속: %.1fm/s", cityName, windSpeed));
+        return alert;
+    }
+    
     public static WeatherAlert createAbnormalWeatherAlert(String cityCode, String cityName, Double temperatureChange) {
         WeatherAlert alert = new WeatherAlert();
         alert.setCityCode(cityCode);
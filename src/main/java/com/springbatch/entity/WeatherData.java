@@ -11,15 +11,17 @@ import java.time.LocalDateTime;
  * OpenWeatherMap API에서 수집한 날씨 정보를 데이터베이스에 저장합니다.
  */
 @Entity
-@Table(name = "weather_data")
+@Table(name = "weather_data",
+       indexes = @Index(name = "idx_weather_data_collected_at", columnList = "collected_at, id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class WeatherData {
     
-    // 기본키 - 자동으로 증가하는 ID
+    // 기본키 - 시퀀스에서 50개 단위로 미리 할당받는 ID (IDENTITY와 달리 JDBC 배치 INSERT 가능)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "weather_data_seq")
+    @SequenceGenerator(name = "weather_data_seq", sequenceName = "weather_data_seq", allocationSize = 50)
     private Long id;
     
     // 도시명 (한글)
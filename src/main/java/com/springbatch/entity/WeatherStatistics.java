@@ -20,7 +20,8 @@ import java.time.LocalDateTime;
 public class WeatherStatistics {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "weather_statistics_seq")
+    @SequenceGenerator(name = "weather_statistics_seq", sequenceName = "weather_statistics_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "statistics_date", nullable = false)
@@ -0,0 +1,53 @@
+package com.springbatch.repository;
+
+import com.springbatch.entity.AlertOutbox;
+import com.springbatch.entity.OutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 알림 발송 대기열(outbox) 데이터 접근을 담당하는 리포지토리
+ */
+@Repository
+public interface AlertOutboxRepository extends JpaRepository<AlertOutbox, Long> {
+    
+    /**
+     * 발송 시각이 된 대기 항목 조회 (오래된 순, pageable 크기만큼)
+     */
+    @Query("SELECT o FROM AlertOutbox o WHERE o.status = :status AND o.nextAttemptAt <= :now " +
+           "ORDER BY o.nextAttemptAt, o.id")
+    List<AlertOutbox> findDue(@Param("status") OutboxStatus status,
+                              @Param("now") LocalDateTime now,
+                              Pageable pageable);
+    
+    /**
+     * 발송에 성공한 항목을 한 번에 완료 처리
+     */
+    @Modifying
+    @Query("UPDATE AlertOutbox o SET o.status = :status, o.sentAt = :sentAt WHERE o.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("status") OutboxStatus status,
+                     @Param("sentAt") LocalDateTime sentAt);
+    
+    /**
+     * 보관 기간이 지난 항목의 ID 조회 (오래된 순, pageable 크기만큼)
+     */
+    @Query("SELECT o.id FROM AlertOutbox o WHERE o.status IN :statuses AND o.createdAt < :before " +
+           "ORDER BY o.createdAt, o.id")
+    List<Long> findIdsCreatedBefore(@Param("statuses") Collection<OutboxStatus> statuses,
+                                    @Param("before") LocalDateTime before,
+                                    Pageable pageable);
+    
+    /**
+     * 상태별 대기열 크기
+     */
+    long countByStatus(OutboxStatus status);
+}
@@ -0,0 +1,24 @@
+package com.springbatch.repository;
+
+import com.springbatch.entity.AlertRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 날씨 알림 규칙 데이터 접근을 담당하는 리포지토리
+ */
+@Repository
+public interface AlertRuleRepository extends JpaRepository<AlertRule, Long> {
+    
+    /**
+     * 사용 중인 규칙 조회
+     */
+    List<AlertRule> findByEnabledTrue();
+    
+    /**
+     * 사용 중인 규칙을 ID 순서로 조회 (규칙 변경 감지용, 순서가 일정해야 내용 비교가 가능)
+     */
+    List<AlertRule> findByEnabledTrueOrderByIdAsc();
+}
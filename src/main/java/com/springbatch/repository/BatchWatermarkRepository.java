@@ -0,0 +1,12 @@
+package com.springbatch.repository;
+
+import com.springbatch.entity.BatchWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 증분 배치 처리 위치(batch_watermarks) 데이터 접근을 담당하는 리포지토리
+ */
+@Repository
+public interface BatchWatermarkRepository extends JpaRepository<BatchWatermark, String> {
+}
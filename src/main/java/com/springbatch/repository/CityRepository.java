@@ -0,0 +1,19 @@
+package com.springbatch.repository;
+
+import com.springbatch.entity.City;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 도시 카탈로그 데이터 접근을 위한 Repository
+ */
+@Repository
+public interface CityRepository extends JpaRepository<City, String> {
+    
+    /**
+     * 수집 대상 도시 전체 조회 (메모리 캐시 적재용)
+     */
+    List<City> findByActiveTrue();
+}
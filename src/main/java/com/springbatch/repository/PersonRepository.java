@@ -2,8 +2,13 @@ package com.springbatch.repository;
 
 import com.springbatch.entity.Person;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Person 엔티티에 대한 데이터베이스 접근을 담당하는 JPA 리포지토리
  * 
@@ -17,6 +22,10 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface PersonRepository extends JpaRepository<Person, Long> {
-    // JpaRepository가 제공하는 기본 메서드들로 충분하므로
-    // 추가 메서드 정의가 필요 없습니다.
+    
+    /**
+     * 주어진 이메일 중 이미 저장된 이메일만 조회 (임포트 중복 제거용, 청크당 한 번 실행)
+     */
+    @Query("SELECT p.email FROM Person p WHERE p.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
 }
\ No newline at end of file
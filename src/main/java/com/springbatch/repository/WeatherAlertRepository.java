@@ -2,13 +2,17 @@ package com.springbatch.repository;
 
 import com.springbatch.entity.AlertLevel;
 import com.springbatch.entity.AlertType;
+import com.springbatch.entity.OutboxStatus;
 import com.springbatch.entity.WeatherAlert;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -82,6 +86,35 @@ public interface WeatherAlertRepository extends JpaRepository<WeatherAlert, Long
                                               @Param("alertType") AlertType alertType,
                                               @Param("recentTime") LocalDateTime recentTime);
     
+    /**
+     * 이미 알림이 만들어진 (날씨 데이터 ID, 알림 유형) 조회 (워터마크 겹침 구간 재평가 시 중복 방지용)
+     * 
+     * @return [weatherDataId, alertType] 목록
+     */
+    @Query("SELECT wa.weatherDataId, wa.alertType FROM WeatherAlert wa WHERE wa.weatherDataId IN :weatherDataIds")
+    List<Object[]> findAlertTypesByWeatherDataIds(@Param("weatherDataIds") Collection<Long> weatherDataIds);
+    
+    /**
+     * 도시 / 알림 유형별 마지막 미해제 알림 시각 (중복 방지 인덱스 적재용)
+     * 
+     * @return [cityCode, alertType, MAX(alertTime)] 목록
+     */
+    @Query("SELECT wa.cityCode, wa.alertType, MAX(wa.alertTime) FROM WeatherAlert wa " +
+           "WHERE wa.isResolved = false AND wa.alertTime > :since " +
+           "GROUP BY wa.cityCode, wa.alertType")
+    List<Object[]> findLastAlertTimesSince(@Param("since") LocalDateTime since);
+    
+    /**
+     * 모든 채널의 발송 대기 항목이 완료된 알림을 한 번에 발송 처리
+     */
+    @Modifying
+    @Query("UPDATE WeatherAlert wa SET wa.isSent = true, wa.sentTime = :sentTime " +
+           "WHERE wa.id IN :ids AND NOT EXISTS (SELECT o.id FROM AlertOutbox o " +
+           "WHERE o.alertId = wa.id AND o.status <> :sent)")
+    int markSentWhenDelivered(@Param("ids") Collection<Long> ids,
+                              @Param("sent") OutboxStatus sent,
+                              @Param("sentTime") LocalDateTime sentTime);
+    
     /**
      * 해결 시간이 오래된 알림 조회 (자동 해제 대상)
      */
@@ -89,6 +122,24 @@ public interface WeatherAlertRepository extends JpaRepository<WeatherAlert, Long
            "AND wa.alertTime < :expiredTime")
     List<WeatherAlert> findExpiredAlerts(@Param("expiredTime") LocalDateTime expiredTime);
     
+    /**
+     * 자동 해제 대상 알림의 ID만 조회 (pageable 크기만큼, 오래된 순)
+     */
+    @Query("SELECT wa.id FROM WeatherAlert wa WHERE wa.isResolved = false " +
+           "AND wa.alertTime < :expiredTime ORDER BY wa.alertTime, wa.id")
+    List<Long> findExpiredAlertIds(@Param("expiredTime") LocalDateTime expiredTime, Pageable pageable);
+    
+    /**
+     * 알림을 한 번에 해제 처리 (이미 해제된 알림은 건너뜀)
+     * 
+     * @return 해제된 알림 수
+     */
+    @Modifying
+    @Query("UPDATE WeatherAlert wa SET wa.isResolved = true, wa.resolvedTime = :resolvedTime " +
+           "WHERE wa.id IN :ids AND wa.isResolved = false")
+    int resolveByIds(@Param("ids") Collection<Long> ids,
+                     @Param("resolvedTime") LocalDateTime resolvedTime);
+    
     /**
      * 알림 발송 성공률 계산
      */
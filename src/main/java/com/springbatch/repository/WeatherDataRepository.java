@@ -93,4 +93,13 @@ public interface WeatherDataRepository extends JpaRepository<WeatherData, Long>
      */
     List<WeatherData> findByCollectedAtAfterOrderByCollectedAtDesc(LocalDateTime dateTime);
     
+    /**
+     * 특정 시간 이후의 도시별 온도 기록 조회 (cityCode, collectedAt, temperature)
+     * 이상 기후 판정용 인메모리 인덱스를 한 번의 쿼리로 채울 때 사용
+     */
+    @Query("SELECT w.cityCode, w.collectedAt, w.temperature FROM WeatherData w " +
+           "WHERE w.collectedAt >= :since AND w.temperature IS NOT NULL " +
+           "ORDER BY w.collectedAt")
+    List<Object[]> findTemperatureReadingsSince(@Param("since") LocalDateTime since);
+    
 }
\ No newline at end of file
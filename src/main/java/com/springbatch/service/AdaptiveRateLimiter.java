@@ -0,0 +1,115 @@
+package com.springbatch.service;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 토큰 버킷 + AIMD 동시 실행 수 조절을 함께 적용하는 비동기 호출 제한기
+ *
+ * - 토큰 버킷: 초당 ratePerSecond개의 토큰이 채워지고 burst개까지 쌓임 (호출 하나당 토큰 하나)
+ * - AIMD: 성공할 때마다 동시 실행 한도를 조금씩 늘리고(+1/한도),
+ *   과부하 응답(429 / 5xx / 타임아웃)을 받으면 한도를 절반으로 줄임
+ *
+ * 허가를 받을 때까지 스레드를 막지 않고 Mono.delay로 다시 시도하므로
+ * WebClient 이벤트 루프 위에서 그대로 사용할 수 있습니다.
+ */
+public class AdaptiveRateLimiter {
+
+    // 동시 실행 한도가 가득 찼을 때 다시 확인하기까지의 대기 시간
+    private static final long BUSY_POLL_NANOS = Duration.ofMillis(10).toNanos();
+
+    private final double ratePerSecond;
+    private final double burst;
+    private final int minLimit;
+    private final int maxLimit;
+    private final Predicate<Throwable> overloadDetector;
+
+    private double tokens;
+    private long lastRefillNanos;
+    private double limit;
+    private int inFlight;
+
+    public AdaptiveRateLimiter(double ratePerSecond, int burst, int initialLimit, int minLimit, int maxLimit,
+                               Predicate<Throwable> overloadDetector) {
+        this.ratePerSecond = ratePerSecond;
+        this.burst = Math.max(1, burst);
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.overloadDetector = overloadDetector;
+        this.tokens = this.burst;
+        this.lastRefillNanos = System.nanoTime();
+        this.limit = Math.max(this.minLimit, Math.min(initialLimit, this.maxLimit));
+    }
+
+    /**
+     * 허가를 받은 뒤 call을 구독하고, 결과에 따라 동시 실행 한도를 조절
+     */
+    public <T> Mono<T> execute(Supplier<Mono<T>> call) {
+        return acquire().then(Mono.defer(call)
+                .doOnSuccess(value -> onSuccess())
+                .doOnError(this::onError)
+                .doFinally(signal -> release()));
+    }
+
+    private Mono<Void> acquire() {
+        return Mono.defer(() -> {
+            long waitNanos = tryAcquire();
+            if (waitNanos == 0) {
+                return Mono.empty();
+            }
+            return Mono.delay(Duration.ofNanos(waitNanos)).then(acquire());
+        });
+    }
+
+    /**
+     * 허가를 받으면 0, 받지 못하면 다시 시도하기까지 기다릴 나노초 반환
+     */
+    private synchronized long tryAcquire() {
+        refill();
+        if (inFlight >= (int) limit) {
+            return BUSY_POLL_NANOS;
+        }
+        if (tokens < 1) {
+            return Math.max(1, (long) ((1 - tokens) / ratePerSecond * 1_000_000_000L));
+        }
+        tokens -= 1;
+        inFlight++;
+        return 0;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) / 1_000_000_000.0 * ratePerSecond);
+        lastRefillNanos = now;
+    }
+
+    private synchronized void onSuccess() {
+        limit = Math.min(maxLimit, limit + 1.0 / limit);
+    }
+
+    private synchronized void onError(Throwable error) {
+        if (overloadDetector.test(error)) {
+            limit = Math.max(minLimit, limit / 2);
+        }
+    }
+
+    private synchronized void release() {
+        inFlight--;
+    }
+
+    public synchronized double getLimit() {
+        return limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized double getAvailableTokens() {
+        refill();
+        return tokens;
+    }
+}
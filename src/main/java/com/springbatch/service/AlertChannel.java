@@ -0,0 +1,23 @@
+package com.springbatch.service;
+
+import com.springbatch.entity.AlertOutbox;
+import reactor.core.publisher.Mono;
+
+/**
+ * 알림 발송 채널 (이메일, SMS, 푸시 등)
+ *
+ * 빈으로 등록하고 weather.alert.outbox.channels에 이름을 추가하면
+ * 새 알림마다 해당 채널의 발송 대기 항목이 만들어집니다.
+ */
+public interface AlertChannel {
+
+    /**
+     * 채널 이름 (alert_outbox.channel 값, 설정 키에도 사용)
+     */
+    String getName();
+
+    /**
+     * 대기 항목 하나를 발송 (실패 시 에러 신호를 보내면 백오프 후 재시도)
+     */
+    Mono<Void> send(AlertOutbox message);
+}
@@ -0,0 +1,253 @@
+package com.springbatch.service;
+
+import com.springbatch.entity.AlertOutbox;
+import com.springbatch.entity.OutboxStatus;
+import com.springbatch.repository.AlertOutboxRepository;
+import com.springbatch.repository.WeatherAlertRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 발송 대기열(alert_outbox)을 주기적으로 비우는 발송기
+ *
+ * 알림 Step은 알림과 대기 항목을 같은 트랜잭션에 저장만 하고, 실제 발송은 이 컴포넌트가 Step과 별도로 수행합니다.
+ * 한 번에 weather.alert.outbox.batch-size개씩 읽어 채널별로 나눈 뒤 채널마다 정해진 동시 실행 수로 발송하고,
+ * 결과는 배치 단위로 반영합니다 (성공: UPDATE ... WHERE id IN 한 번, 실패: 지수 백오프로 다음 시도 시각 설정).
+ *
+ * 채널별 동시 실행 수는 weather.alert.outbox.channel.{채널}.concurrency (없으면 weather.alert.outbox.concurrency)로 설정합니다.
+ * 한 번의 확인에서는 최대 max-batches-per-poll 묶음만 발송하여 스케줄러 스레드를 오래 붙잡지 않습니다.
+ * 발송기 인스턴스는 하나만 실행된다고 가정합니다 (fixedDelay이므로 같은 인스턴스 안에서도 겹치지 않음).
+ *
+ * 발송이 끝난(SENT / FAILED) 항목은 weather.alert.outbox.retention이 지나면 purge()가 묶음 단위로 삭제합니다.
+ */
+@Slf4j
+@Component
+public class AlertOutboxDispatcher {
+
+    private static final String CHANNEL_PREFIX = "weather.alert.outbox.channel.";
+
+    // last_error 컬럼 길이
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final AlertOutboxRepository alertOutboxRepository;
+    private final WeatherAlertRepository weatherAlertRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AlertChannel> channels = new HashMap<>();
+
+    @Value("${weather.alert.outbox.enabled:true}")
+    private boolean enabled;
+
+    @Value("${weather.alert.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${weather.alert.outbox.max-batches-per-poll:10}")
+    private int maxBatchesPerPoll;
+
+    @Value("${weather.alert.outbox.concurrency:4}")
+    private int defaultConcurrency;
+
+    @Value("${weather.alert.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${weather.alert.outbox.initial-backoff:5s}")
+    private Duration initialBackoff;
+
+    @Value("${weather.alert.outbox.max-backoff:10m}")
+    private Duration maxBackoff;
+
+    @Value("${weather.alert.outbox.send-timeout:10s}")
+    private Duration sendTimeout;
+
+    @Value("${weather.alert.outbox.retention:7d}")
+    private Duration retention;
+
+    @Value("${weather.alert.outbox.purge-batch-size:1000}")
+    private int purgeBatchSize;
+
+    public AlertOutboxDispatcher(AlertOutboxRepository alertOutboxRepository,
+                                 WeatherAlertRepository weatherAlertRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 Environment environment,
+                                 MeterRegistry meterRegistry,
+                                 List<AlertChannel> alertChannels) {
+        this.alertOutboxRepository = alertOutboxRepository;
+        this.weatherAlertRepository = weatherAlertRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        alertChannels.forEach(channel -> channels.put(channel.getName(), channel));
+    }
+
+    /**
+     * 발송 시각이 된 대기 항목을 배치 단위로 발송 (더 이상 없거나 max-batches-per-poll 묶음을 처리할 때까지)
+     */
+    @Scheduled(fixedDelayString = "${weather.alert.outbox.poll-interval-millis:1000}")
+    public void dispatch() {
+        if (!enabled) {
+            return;
+        }
+
+        int dispatched = 0;
+        int batches = 0;
+        List<AlertOutbox> due;
+        do {
+            due = alertOutboxRepository.findDue(OutboxStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, batchSize));
+            if (due.isEmpty()) {
+                break;
+            }
+            dispatchBatch(due);
+            dispatched += due.size();
+        } while (due.size() == batchSize && ++batches < maxBatchesPerPoll);
+
+        if (dispatched > 0) {
+            log.info("Dispatched {} alert outbox messages", dispatched);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 SENT / FAILED 항목을 묶음(한 트랜잭션)마다 DELETE 한 문장으로 삭제
+     */
+    @Scheduled(fixedDelayString = "${weather.alert.outbox.purge-interval-millis:3600000}")
+    public void purge() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        List<OutboxStatus> finished = List.of(OutboxStatus.SENT, OutboxStatus.FAILED);
+        int purged = 0;
+        List<Long> ids;
+        do {
+            ids = alertOutboxRepository.findIdsCreatedBefore(finished, before, PageRequest.of(0, purgeBatchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            List<Long> batch = ids;
+            transactionTemplate.executeWithoutResult(status -> alertOutboxRepository.deleteAllByIdInBatch(batch));
+            purged += ids.size();
+        } while (ids.size() == purgeBatchSize);
+
+        if (purged > 0) {
+            log.info("Purged {} alert outbox messages created before {}", purged, before);
+        }
+    }
+
+    private void dispatchBatch(List<AlertOutbox> batch) {
+        Map<String, List<AlertOutbox>> byChannel = batch.stream()
+                .collect(Collectors.groupingBy(AlertOutbox::getChannel));
+
+        // 채널끼리도 동시에 발송 (느린 채널이 다른 채널을 막지 않도록)
+        List<Delivery> deliveries = Flux.fromIterable(byChannel.entrySet())
+                .flatMap(entry -> deliver(entry.getKey(), entry.getValue()), Math.max(1, byChannel.size()))
+                .collectList()
+                .block();
+
+        complete(deliveries != null ? deliveries : List.of());
+    }
+
+    private Flux<Delivery> deliver(String channelName, List<AlertOutbox> messages) {
+        AlertChannel channel = channels.get(channelName);
+        if (channel == null) {
+            return Flux.fromIterable(messages)
+                    .map(message -> new Delivery(message, "Unknown alert channel: " + channelName));
+        }
+
+        // 블로킹 방식의 채널 구현도 동시 실행 수만큼 병렬로 발송되도록 boundedElastic에서 구독
+        return Flux.fromIterable(messages)
+                .flatMap(message -> Mono.defer(() -> channel.send(message))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .timeout(sendTimeout)
+                        .thenReturn(new Delivery(message, null))
+                        .onErrorResume(error -> Mono.just(new Delivery(message, error.toString()))),
+                        concurrency(channelName));
+    }
+
+    /**
+     * 발송 결과를 한 트랜잭션으로 반영
+     * 성공 항목과 그 알림의 isSent는 벌크 UPDATE로, 실패 항목은 시도 횟수와 다음 시도 시각을 갱신
+     */
+    private void complete(List<Delivery> deliveries) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> sentIds = new ArrayList<>();
+        Set<Long> sentAlertIds = new LinkedHashSet<>();
+        List<AlertOutbox> failed = new ArrayList<>();
+
+        for (Delivery delivery : deliveries) {
+            AlertOutbox message = delivery.message();
+            if (delivery.error() == null) {
+                sentIds.add(message.getId());
+                sentAlertIds.add(message.getAlertId());
+            } else {
+                scheduleRetry(message, delivery.error(), now);
+                failed.add(message);
+                log.warn("Failed to deliver alert {} via {} (attempt {}): {}",
+                        message.getAlertId(), message.getChannel(), message.getAttempts(), delivery.error());
+            }
+            meterRegistry.counter("weather.alert.outbox.deliveries",
+                    "channel", message.getChannel(),
+                    "result", delivery.error() == null ? "sent" : "failed").increment();
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sentIds.isEmpty()) {
+                alertOutboxRepository.updateStatus(sentIds, OutboxStatus.SENT, now);
+                weatherAlertRepository.markSentWhenDelivered(sentAlertIds, OutboxStatus.SENT, now);
+            }
+            if (!failed.isEmpty()) {
+                alertOutboxRepository.saveAll(failed);
+            }
+        });
+    }
+
+    private void scheduleRetry(AlertOutbox message, String error, LocalDateTime now) {
+        int attempts = message.getAttempts() + 1;
+        message.setAttempts(attempts);
+        message.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        if (attempts >= maxAttempts) {
+            message.setStatus(OutboxStatus.FAILED);
+        } else {
+            message.setNextAttemptAt(now.plus(backoff(attempts)));
+        }
+    }
+
+    /**
+     * 실패 횟수에 따른 재시도 대기 시간 (initial-backoff × 2^(실패 횟수 - 1), 최대 max-backoff)
+     */
+    private Duration backoff(int attempts) {
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private int concurrency(String channelName) {
+        Integer concurrency = environment.getProperty(CHANNEL_PREFIX + channelName + ".concurrency", Integer.class);
+        return Math.max(1, concurrency != null ? concurrency : defaultConcurrency);
+    }
+
+    /**
+     * 대기 항목 하나의 발송 결과 (error가 null이면 성공)
+     */
+    private record Delivery(AlertOutbox message, String error) {
+    }
+}
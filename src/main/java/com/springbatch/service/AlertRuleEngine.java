@@ -0,0 +1,159 @@
+package com.springbatch.service;
+
+import com.springbatch.entity.AlertLevel;
+import com.springbatch.entity.AlertMetric;
+import com.springbatch.entity.AlertOperator;
+import com.springbatch.entity.AlertRule;
+import com.springbatch.entity.AlertType;
+import com.springbatch.entity.WeatherAlert;
+import com.springbatch.entity.WeatherData;
+import com.springbatch.repository.AlertRuleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * alert_rules 테이블의 규칙을 CompiledAlertRules로 컴파일해 제공하는 컴포넌트
+ *
+ * - 애플리케이션 시작 시 테이블이 비어 있으면 기본 규칙(기존 고정 임계값 + 대설 / 강풍)을 저장
+ * - 알림 Step 시작 시(beforeStep) 항상 다시 컴파일
+ * - 실행 중에는 weather.alert.rules.refresh-interval-millis마다 사용 중인 규칙을 다시 읽어 내용
+ *   (ID, 유형, 수준, 측정값, 연산자, 임계값, 도시)이 바뀌었을 때만 다시 컴파일
+ *   (H2 콘솔 등에서 SQL로 직접 수정해도 재시작 없이 반영, 진행 중인 Step과 실시간 평가기도 다음 아이템부터 새 규칙 사용)
+ */
+@Slf4j
+@Component
+public class AlertRuleEngine implements StepExecutionListener, ApplicationRunner {
+
+    @Autowired
+    private AlertRuleRepository alertRuleRepository;
+
+    // (도시, 알림 유형)별 마지막 알림 시각 인덱스
+    @Autowired
+    private AlertSuppressionIndex alertSuppressionIndex;
+
+    private volatile CompiledAlertRules rules = CompiledAlertRules.EMPTY;
+
+    // 마지막으로 컴파일한 규칙의 내용 (변경 감지용)
+    private volatile List<RuleContent> fingerprint = List.of();
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (alertRuleRepository.count() == 0) {
+            alertRuleRepository.saveAll(defaultRules());
+            log.info("Seeded default alert rules");
+        }
+        reload();
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        reload();
+    }
+
+    /**
+     * 현재 컴파일된 규칙 (아이템마다 호출해도 되는 volatile 읽기)
+     */
+    public CompiledAlertRules current() {
+        return rules;
+    }
+
+    /**
+     * 날씨 데이터 하나를 모든 규칙으로 평가하여, 억제 기간에 걸리지 않은 유형마다 알림 후보 생성
+     * 알림 배치 Processor와 실시간 평가기가 함께 사용하며, 중복 방지 인덱스는 확인만 함
+     * (자리 차지와 저장은 WeatherAlertStore.saveWithOutbox()에서 한 트랜잭션으로 처리)
+     */
+    public List<WeatherAlert> createAlerts(WeatherData weatherData, LocalDateTime now) {
+        CompiledAlertRules compiled = rules;
+        double[] values = CompiledAlertRules.newValueBuffer();
+        CompiledAlertRules.extract(weatherData, values);
+        int[] matches = new int[compiled.size()];
+        int matchCount = compiled.evaluate(values, weatherData.getCityCode(), matches);
+        if (matchCount == 0) {
+            return List.of();
+        }
+
+        List<WeatherAlert> alerts = new ArrayList<>(matchCount);
+        AlertType previousType = null;
+        for (int i = 0; i < matchCount; i++) {
+            int rule = matches[i];
+            AlertType alertType = compiled.alertType(rule);
+            // 규칙은 (유형, 수준 내림차순)으로 정렬되어 있으므로 같은 유형은 처음 일치한 가장 높은 수준만 사용
+            if (alertType == previousType) {
+                continue;
+            }
+            previousType = alertType;
+            if (alertSuppressionIndex.isSuppressed(weatherData.getCityCode(), alertType, now)) {
+                continue;
+            }
+            WeatherAlert alert = compiled.createAlert(rule, weatherData, values);
+            alert.setAlertTime(now);
+            alerts.add(alert);
+            log.debug("{} alert candidate for {}: {}",
+                    alert.getAlertType(), weatherData.getCityName(), alert.getTriggerValue());
+        }
+        return alerts;
+    }
+
+    /**
+     * 규칙이 바뀌었으면 다시 컴파일 (규칙 수가 적으므로 매번 전체를 읽어 내용으로 비교)
+     */
+    @Scheduled(fixedDelayString = "${weather.alert.rules.refresh-interval-millis:30000}")
+    public synchronized void refreshIfChanged() {
+        List<AlertRule> enabled = alertRuleRepository.findByEnabledTrueOrderByIdAsc();
+        if (!contentOf(enabled).equals(fingerprint)) {
+            compile(enabled);
+        }
+    }
+
+    /**
+     * 사용 중인 규칙을 읽어 다시 컴파일
+     */
+    public synchronized void reload() {
+        compile(alertRuleRepository.findByEnabledTrueOrderByIdAsc());
+    }
+
+    private void compile(List<AlertRule> enabled) {
+        rules = new CompiledAlertRules(enabled);
+        fingerprint = contentOf(enabled);
+        log.info("Compiled {} alert rules", enabled.size());
+    }
+
+    private static List<RuleContent> contentOf(List<AlertRule> rules) {
+        return rules.stream()
+                .map(rule -> new RuleContent(rule.getId(), rule.getAlertType(), rule.getAlertLevel(), rule.getMetric(),
+                        rule.getOperator(), rule.getThreshold(), rule.getCityCode()))
+                .toList();
+    }
+
+    /**
+     * 기본 규칙 (기존에 코드에 고정되어 있던 임계값과 미사용이던 대설 / 강풍 유형)
+     */
+    private static List<AlertRule> defaultRules() {
+        return List.of(
+                AlertRule.of(AlertType.HEAT_WAVE, AlertLevel.WARNING, AlertMetric.TEMPERATURE, AlertOperator.GREATER_OR_EQUAL, 35.0),
+                AlertRule.of(AlertType.COLD_WAVE, AlertLevel.ADVISORY, AlertMetric.TEMPERATURE, AlertOperator.LESS_OR_EQUAL, -10.0),
+                AlertRule.of(AlertType.HEAVY_RAIN, AlertLevel.WARNING, AlertMetric.RAINFALL, AlertOperator.GREATER_OR_EQUAL, 50.0),
+                AlertRule.of(AlertType.HEAVY_SNOW, AlertLevel.ADVISORY, AlertMetric.SNOWFALL, AlertOperator.GREATER_OR_EQUAL, 5.0),
+                AlertRule.of(AlertType.STRONG_WIND, AlertLevel.ADVISORY, AlertMetric.WIND_SPEED, AlertOperator.GREATER_OR_EQUAL, 14.0),
+                AlertRule.of(AlertType.STRONG_WIND, AlertLevel.WARNING, AlertMetric.WIND_SPEED, AlertOperator.GREATER_OR_EQUAL, 21.0),
+                AlertRule.of(AlertType.ABNORMAL_WEATHER, AlertLevel.NOTICE, AlertMetric.TEMPERATURE_CHANGE, AlertOperator.GREATER_OR_EQUAL, 20.0)
+        );
+    }
+
+    /**
+     * 평가 결과에 영향을 주는 규칙 내용 (사용 여부는 조회 조건에 반영됨)
+     */
+    private record RuleContent(Long id, AlertType alertType, AlertLevel alertLevel, AlertMetric metric,
+                               AlertOperator operator, Double threshold, String cityCode) {
+    }
+}
@@ -0,0 +1,203 @@
+package com.springbatch.service;
+
+import com.springbatch.entity.AlertType;
+import com.springbatch.entity.WeatherAlert;
+import com.springbatch.repository.WeatherAlertRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 중복 알림 방지를 위한 (도시, 알림 유형)별 마지막 알림 시각 인덱스
+ *
+ * 알림 Step 시작 시 GROUP BY 쿼리 한 번으로 최근 미해제 알림의 마지막 시각을 채우고(beforeStep),
+ * 이후에는 메모리에서 확인과 갱신을 처리합니다.
+ * - Processor는 isSuppressed()로 확인만 하고 상태를 바꾸지 않음
+ * - Writer는 저장 직전에 acquire()로 자리를 차지하며, 같은 청크 / 동시에 저장하는 다른 트랜잭션 중 하나만 통과
+ * - 차지한 자리는 트랜잭션이 롤백되면 이전 값으로 되돌리므로, 저장되지 않은 알림이 억제 기간 동안 남지 않음
+ *   (warmUp()이 인덱스를 비우지 않고 합치더라도 실패한 실시간 평가의 자리가 배치 보정을 막지 않음)
+ * - 인덱스를 거치지 않고 SQL로 만든 알림(SetBasedAlertTasklet)은 record()로 반영하여 실시간 평가기도 억제되도록 함
+ * - findRecentSimilarAlerts와 같이 해제된 알림은 억제하지 않도록, 알림을 해제하면 releaseResolvedBefore()로 키를 제거
+ *
+ * SQL Step은 인덱스 대신 DB의 NOT EXISTS로 중복을 확인하므로, 커밋되지 않은 실시간 저장을 볼 수 없고
+ * 실시간 평가기도 SQL Step이 커밋하기 전의 알림을 볼 수 없습니다. 그래서 두 경로를 읽기 / 쓰기 잠금으로 직렬화합니다.
+ * - acquire()는 읽기 잠금을 잡고 트랜잭션이 끝날 때 풀어줌 (인덱스를 거치는 저장끼리는 동시에 진행)
+ * - lockExclusively()는 쓰기 잠금을 잡고 트랜잭션이 끝날 때 풀어줌 (SQL Step이 실행되는 동안 다른 저장은 대기)
+ */
+@Slf4j
+@Component
+public class AlertSuppressionIndex implements StepExecutionListener {
+
+    @Autowired
+    private WeatherAlertRepository weatherAlertRepository;
+
+    // 같은 도시 / 유형의 알림을 다시 만들지 않는 기간
+    @Value("${weather.alert.suppression-window:1h}")
+    private Duration suppressionWindow;
+
+    private final Map<Key, LocalDateTime> lastAlertTimes = new ConcurrentHashMap<>();
+
+    // 인덱스를 거치는 저장(읽기 잠금)과 SQL Step(쓰기 잠금)을 직렬화하는 잠금
+    private final ReentrantReadWriteLock savePathLock = new ReentrantReadWriteLock();
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        warmUp(LocalDateTime.now());
+    }
+
+    /**
+     * now 기준 억제 기간 안의 미해제 알림을 인덱스에 반영
+     * 실시간 평가기가 동시에 사용 중일 수 있으므로 비우지 않고 더 늦은 시각으로 합침 (기간이 지난 항목은 무시됨)
+     */
+    public void warmUp(LocalDateTime now) {
+        List<Object[]> rows = weatherAlertRepository.findLastAlertTimesSince(now.minus(suppressionWindow));
+        for (Object[] row : rows) {
+            lastAlertTimes.merge(new Key((String) row[0], (AlertType) row[1]), (LocalDateTime) row[2], AlertSuppressionIndex::later);
+        }
+        log.info("Warmed alert suppression index with {} recent alerts", rows.size());
+    }
+
+    /**
+     * 억제 기간 안에 같은 도시 / 유형의 알림이 있는지 확인 (인덱스를 바꾸지 않음)
+     */
+    public boolean isSuppressed(String cityCode, AlertType alertType, LocalDateTime now) {
+        LocalDateTime last = lastAlertTimes.get(new Key(cityCode, alertType));
+        return last != null && last.isAfter(now.minus(suppressionWindow));
+    }
+
+    /**
+     * 알림마다 억제 기간 안에 같은 알림이 없으면 alertTime을 마지막 알림 시각으로 기록하고, 기록된 알림만 반환
+     * 확인과 기록은 키마다 원자적으로 수행되며, 진행 중인 트랜잭션이 롤백되면 기록을 되돌림
+     */
+    public List<WeatherAlert> acquire(List<WeatherAlert> alerts) {
+        holdUntilCompletion(savePathLock.readLock());
+        List<WeatherAlert> acquired = new ArrayList<>(alerts.size());
+        List<Reservation> reservations = new ArrayList<>(alerts.size());
+        for (WeatherAlert alert : alerts) {
+            Key key = new Key(alert.getCityCode(), alert.getAlertType());
+            LocalDateTime alertTime = alert.getAlertTime();
+            LocalDateTime threshold = alertTime.minus(suppressionWindow);
+            lastAlertTimes.compute(key, (k, last) -> {
+                if (last != null && last.isAfter(threshold)) {
+                    return last;
+                }
+                acquired.add(alert);
+                reservations.add(new Reservation(k, last, alertTime));
+                return alertTime;
+            });
+        }
+        releaseOnRollback(reservations);
+        return acquired;
+    }
+
+    /**
+     * 인덱스를 거치지 않고 알림을 저장하는 동안(SQL Step) 다른 저장 경로를 막음
+     * 진행 중인 트랜잭션이 끝날 때 풀리며, 트랜잭션 밖에서는 아무 일도 하지 않음
+     */
+    public void lockExclusively() {
+        holdUntilCompletion(savePathLock.writeLock());
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 있으면 잠금을 잡고 트랜잭션이 끝날 때(커밋 / 롤백) 풀어줌
+     * afterCompletion은 트랜잭션을 시작한 스레드에서 호출되므로 스레드 단위 잠금을 그대로 사용할 수 있음
+     */
+    private void holdUntilCompletion(Lock lock) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        lock.lock();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+
+    /**
+     * 이미 저장한 알림의 시각을 확인 없이 기록 (더 늦은 시각으로 합침)
+     * 진행 중인 트랜잭션이 롤백되면 acquire()와 같이 기록을 되돌림
+     */
+    public void record(List<WeatherAlert> alerts) {
+        List<Reservation> reservations = new ArrayList<>(alerts.size());
+        for (WeatherAlert alert : alerts) {
+            Key key = new Key(alert.getCityCode(), alert.getAlertType());
+            LocalDateTime alertTime = alert.getAlertTime();
+            lastAlertTimes.compute(key, (k, last) -> {
+                if (last != null && !alertTime.isAfter(last)) {
+                    return last;
+                }
+                reservations.add(new Reservation(k, last, alertTime));
+                return alertTime;
+            });
+        }
+        releaseOnRollback(reservations);
+    }
+
+    /**
+     * cutoff 이전 알림을 모두 해제했을 때, 마지막 알림이 cutoff 이전인 키를 제거 (진행 중인 트랜잭션이 있으면 커밋 후)
+     * 그 사이 더 늦은 알림이 기록된 키는 값이 달라졌으므로 남김
+     */
+    public void releaseResolvedBefore(LocalDateTime cutoff) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeBefore(cutoff);
+                }
+            });
+        } else {
+            removeBefore(cutoff);
+        }
+    }
+
+    private void removeBefore(LocalDateTime cutoff) {
+        // ConcurrentHashMap의 removeIf는 확인한 값이 그대로일 때만 제거함
+        lastAlertTimes.values().removeIf(last -> last.isBefore(cutoff));
+    }
+
+    private void releaseOnRollback(List<Reservation> reservations) {
+        if (reservations.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                // 그 사이 다른 알림이 기록했으면 그대로 둠
+                for (Reservation reservation : reservations) {
+                    lastAlertTimes.computeIfPresent(reservation.key(), (key, current) ->
+                            current.equals(reservation.alertTime()) ? reservation.previous() : current);
+                }
+                log.debug("Released {} alert suppression slots after rollback", reservations.size());
+            }
+        });
+    }
+
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private record Key(String cityCode, AlertType alertType) {
+    }
+
+    private record Reservation(Key key, LocalDateTime previous, LocalDateTime alertTime) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.springbatch.service;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 외부 API 장애 시 호출을 즉시 실패시키는 서킷 브레이커
+ *
+ * - CLOSED: 정상 호출, 장애성 오류가 failureThreshold번 연속되면 OPEN
+ * - OPEN: openDuration 동안 호출하지 않고 CircuitOpenException으로 즉시 실패
+ * - HALF_OPEN: openDuration이 지나면 시험 호출 하나만 허용, 성공하면 CLOSED / 실패하면 다시 OPEN
+ *
+ * 404 같은 요청 오류는 장애로 보지 않도록 failureDetector로 판별합니다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final Predicate<Throwable> failureDetector;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration,
+                          Predicate<Throwable> failureDetector) {
+        this.name = name;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openNanos = openDuration.toNanos();
+        this.failureDetector = failureDetector;
+    }
+
+    /**
+     * 호출이 허용되면 call을 구독하고 결과를 기록, 허용되지 않으면 즉시 CircuitOpenException
+     */
+    public <T> Mono<T> execute(Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            if (!tryAcquire()) {
+                return Mono.error(new CircuitOpenException(name));
+            }
+            return Mono.defer(call)
+                    .doOnSuccess(value -> onSuccess())
+                    .doOnError(this::onError)
+                    .doOnCancel(this::onCancel);
+        });
+    }
+
+    private synchronized boolean tryAcquire() {
+        if (state == State.OPEN && System.nanoTime() - openedAtNanos >= openNanos) {
+            state = State.HALF_OPEN;
+        }
+        switch (state) {
+            case CLOSED:
+                return true;
+            case HALF_OPEN:
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    private synchronized void onError(Throwable error) {
+        if (!failureDetector.test(error)) {
+            // 요청 자체의 오류는 제공자 장애가 아니므로 시험 호출 성공으로 간주
+            if (state == State.HALF_OPEN) {
+                onSuccess();
+            }
+            return;
+        }
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAtNanos = System.nanoTime();
+        }
+        trialInFlight = false;
+    }
+
+    private synchronized void onCancel() {
+        trialInFlight = false;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
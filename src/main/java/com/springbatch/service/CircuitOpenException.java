@@ -0,0 +1,11 @@
+package com.springbatch.service;
+
+/**
+ * 서킷 브레이커가 열려 있어 외부 API를 호출하지 않고 즉시 실패했음을 나타내는 예외
+ */
+public class CircuitOpenException extends RuntimeException {
+
+    public CircuitOpenException(String name) {
+        super("Circuit breaker '" + name + "' is open");
+    }
+}
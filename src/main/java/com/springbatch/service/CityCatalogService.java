@@ -0,0 +1,161 @@
+package com.springbatch.service;
+
+import com.springbatch.entity.City;
+import com.springbatch.repository.CityRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 도시 카탈로그(cities 테이블)를 관리하고 코드 → 도시 정보 조회를 메모리에서 처리하는 서비스
+ *
+ * 주요 기능:
+ * - 애플리케이션 시작 시 테이블이 비어 있으면 카탈로그 CSV(code,nameKo,owmId)로 채움
+ * - 수집 대상 도시를 메모리 사전으로 캐시하여 한글명 / OpenWeatherMap ID를 DB 조회 없이 반환
+ * - 수집 Step 시작 시(beforeStep) 사전을 다시 읽어, 실행 중에 추가되거나 다시 활성화된 도시도
+ *   Reader가 읽는 cities 테이블과 같은 기준으로 한글명 / 그룹 조회 대상이 됨
+ *
+ * 다른 ApplicationRunner(배치 자동 실행 등)보다 먼저 실행되도록 가장 높은 우선순위를 가집니다.
+ */
+@Slf4j
+@Service
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CityCatalogService implements ApplicationRunner, StepExecutionListener {
+
+    private static final String INSERT_SQL = "INSERT INTO cities (code, name_ko, owm_id, active) VALUES (?, ?, ?, TRUE)";
+
+    // 카탈로그 적재 시 한 번에 INSERT 할 행 수
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    @Autowired
+    private CityRepository cityRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 테이블이 비어 있을 때 적재할 카탈로그 파일 (전국 관측 지점 목록 등으로 교체 가능)
+    @Value("${weather.city.catalog-file:classpath:cities.csv}")
+    private Resource catalogFile;
+
+    // 코드 → 도시 (코드 순서 유지, 교체 방식으로 갱신하므로 읽기 시 잠금 없음)
+    private volatile Map<String, City> activeCities;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        if (cityRepository.count() == 0) {
+            seed();
+        }
+        refresh();
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        refresh();
+    }
+
+    /**
+     * 카탈로그 CSV를 읽어 cities 테이블에 일괄 INSERT
+     */
+    public void seed() throws IOException {
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        int total = 0;
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(catalogFile.getInputStream(), StandardCharsets.UTF_8))) {
+            reader.readLine(); // 헤더 건너뛰기
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] columns = line.split(",", -1);
+                Long owmId = columns.length > 2 && !columns[2].isBlank() ? Long.valueOf(columns[2].trim()) : null;
+                batch.add(new Object[]{columns[0].trim(), columns[1].trim(), owmId});
+
+                if (batch.size() == SEED_BATCH_SIZE) {
+                    total += insert(batch);
+                }
+            }
+        }
+        total += insert(batch);
+        log.info("Seeded city catalog with {} cities from {}", total, catalogFile);
+    }
+
+    private int insert(List<Object[]> batch) {
+        int size = batch.size();
+        if (size > 0) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+            batch.clear();
+        }
+        return size;
+    }
+
+    /**
+     * 수집 대상 도시를 다시 읽어 메모리 사전을 교체
+     */
+    public void refresh() {
+        Map<String, City> loaded = new LinkedHashMap<>();
+        cityRepository.findByActiveTrue().stream()
+                .sorted((a, b) -> a.getCode().compareTo(b.getCode()))
+                .forEach(city -> loaded.put(city.getCode(), city));
+        activeCities = Collections.unmodifiableMap(loaded);
+        log.info("Loaded {} active cities into catalog cache", loaded.size());
+    }
+
+    /**
+     * 도시 코드(영문)를 한글명으로 변환 (카탈로그에 없으면 코드 그대로)
+     */
+    public String getCityName(String cityCode) {
+        City city = cities().get(cityCode);
+        return city != null ? city.getNameKo() : cityCode;
+    }
+
+    /**
+     * 도시의 OpenWeatherMap ID (없으면 null)
+     */
+    public Long getOwmId(String cityCode) {
+        City city = cities().get(cityCode);
+        return city != null ? city.getOwmId() : null;
+    }
+
+    /**
+     * 수집 대상 도시 코드 → 한글명 (코드 순)
+     */
+    public Map<String, String> getCityNames() {
+        Map<String, String> names = new LinkedHashMap<>();
+        cities().forEach((code, city) -> names.put(code, city.getNameKo()));
+        return names;
+    }
+
+    private Map<String, City> cities() {
+        Map<String, City> current = activeCities;
+        if (current == null) {
+            synchronized (this) {
+                if (activeCities == null) {
+                    refresh();
+                }
+                current = activeCities;
+            }
+        }
+        return current;
+    }
+}
@@ -0,0 +1,149 @@
+package com.springbatch.service;
+
+import com.springbatch.entity.AlertLevel;
+import com.springbatch.entity.AlertMetric;
+import com.springbatch.entity.AlertOperator;
+import com.springbatch.entity.AlertRule;
+import com.springbatch.entity.AlertType;
+import com.springbatch.entity.WeatherAlert;
+import com.springbatch.entity.WeatherData;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 알림 규칙 목록을 평면 배열로 컴파일한 평가기 (변경 불가, 여러 스레드에서 공유)
+ *
+ * 규칙마다 측정값 번호 / 연산자 / 임계값 / 적용 도시를 배열에 두고,
+ * 측정값 하나당 한 번 double로 꺼낸 값(extract)을 모든 규칙과 한 번의 루프로 비교합니다.
+ * 평가 중에는 박싱이나 객체 할당이 없고, 일치한 규칙 번호만 호출한 쪽의 버퍼에 기록합니다.
+ *
+ * 규칙은 (알림 유형, 수준 내림차순) 순서로 정렬되므로 같은 유형의 규칙이 여러 개 일치하면
+ * 가장 높은 수준의 규칙이 먼저 나옵니다 (AlertRuleEngine.createAlerts()가 같은 유형의 나머지를 건너뜀).
+ */
+public class CompiledAlertRules {
+
+    private static final int METRIC_COUNT = AlertMetric.values().length;
+
+    public static final CompiledAlertRules EMPTY = new CompiledAlertRules(List.of());
+
+    private final int size;
+    private final int[] metrics;
+    private final boolean[] greaterOrEqual;
+    private final double[] thresholds;
+    private final String[] cityCodes;
+    private final AlertType[] alertTypes;
+    private final AlertLevel[] alertLevels;
+
+    public CompiledAlertRules(List<AlertRule> rules) {
+        List<AlertRule> sorted = rules.stream()
+                .sorted(Comparator.comparing(AlertRule::getAlertType)
+                        .thenComparing(AlertRule::getAlertLevel, Comparator.reverseOrder()))
+                .toList();
+
+        this.size = sorted.size();
+        this.metrics = new int[size];
+        this.greaterOrEqual = new boolean[size];
+        this.thresholds = new double[size];
+        this.cityCodes = new String[size];
+        this.alertTypes = new AlertType[size];
+        this.alertLevels = new AlertLevel[size];
+
+        for (int i = 0; i < size; i++) {
+            AlertRule rule = sorted.get(i);
+            metrics[i] = rule.getMetric().ordinal();
+            greaterOrEqual[i] = rule.getOperator() == AlertOperator.GREATER_OR_EQUAL;
+            thresholds[i] = rule.getThreshold();
+            cityCodes[i] = rule.getCityCode();
+            alertTypes[i] = rule.getAlertType();
+            alertLevels[i] = rule.getAlertLevel();
+        }
+    }
+
+    /**
+     * 규칙 수 (일치 버퍼의 최대 필요 크기)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 측정값 버퍼 생성 (AlertMetric 순서, 스레드마다 재사용 가능)
+     */
+    public static double[] newValueBuffer() {
+        return new double[METRIC_COUNT];
+    }
+
+    /**
+     * 날씨 데이터의 측정값을 values에 채움 (값이 없으면 NaN이며 어떤 규칙과도 일치하지 않음)
+     */
+    public static void extract(WeatherData weatherData, double[] values) {
+        values[AlertMetric.TEMPERATURE.ordinal()] = valueOf(weatherData.getTemperature());
+        values[AlertMetric.FEELS_LIKE.ordinal()] = valueOf(weatherData.getFeelsLike());
+        values[AlertMetric.HUMIDITY.ordinal()] = weatherData.getHumidity() != null ? weatherData.getHumidity() : Double.NaN;
+        values[AlertMetric.WIND_SPEED.ordinal()] = valueOf(weatherData.getWindSpeed());
+        values[AlertMetric.RAINFALL.ordinal()] = valueOf(weatherData.getRainfall());
+        values[AlertMetric.SNOWFALL.ordinal()] = valueOf(weatherData.getSnowfall());
+        values[AlertMetric.VISIBILITY.ordinal()] = weatherData.getVisibility() != null ? weatherData.getVisibility() : Double.NaN;
+        values[AlertMetric.TEMPERATURE_CHANGE.ordinal()] = Math.abs(valueOf(weatherData.getTemperatureChange()));
+    }
+
+    private static double valueOf(Double value) {
+        return value != null ? value : Double.NaN;
+    }
+
+    /**
+     * 모든 규칙을 한 번에 평가하여 일치한 규칙 번호를 matches에 기록
+     *
+     * @param values   extract()로 채운 측정값
+     * @param cityCode 도시 코드 (도시별 규칙 적용 여부 판단)
+     * @param matches  size() 이상 크기의 버퍼
+     * @return 일치한 규칙 수
+     */
+    public int evaluate(double[] values, String cityCode, int[] matches) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            double value = values[metrics[i]];
+            // NaN은 어떤 비교에서도 false
+            boolean hit = greaterOrEqual[i] ? value >= thresholds[i] : value <= thresholds[i];
+            if (hit && (cityCodes[i] == null || cityCodes[i].equals(cityCode))) {
+                matches[count++] = i;
+            }
+        }
+        return count;
+    }
+
+    public AlertType alertType(int rule) {
+        return alertTypes[rule];
+    }
+
+    /**
+     * 일치한 규칙으로 알림 생성 (제목 / 메시지는 유형별 팩토리 메서드, 수준과 임계값은 규칙 값)
+     */
+    public WeatherAlert createAlert(int rule, WeatherData weatherData, double[] values) {
+        String cityCode = weatherData.getCityCode();
+        String cityName = weatherData.getCityName();
+        double value = values[metrics[rule]];
+
+        WeatherAlert alert = switch (alertTypes[rule]) {
+            case HEAT_WAVE -> WeatherAlert.createHeatWaveAlert(cityCode, cityName, value);
+            case COLD_WAVE -> WeatherAlert.createColdWaveAlert(cityCode, cityName, value);
+            case HEAVY_RAIN -> WeatherAlert.createHeavyRainAlert(cityCode, cityName, value);
+            case HEAVY_SNOW -> WeatherAlert.createHeavySnowAlert(cityCode, cityName, value);
+            case STRONG_WIND -> WeatherAlert.createStrongWindAlert(cityCode, cityName, value);
+            // 메시지에는 부호가 있는 변화량을 표시
+            case ABNORMAL_WEATHER -> WeatherAlert.createAbnormalWeatherAlert(cityCode, cityName,
+                    weatherData.getTemperatureChange() != null ? weatherData.getTemperatureChange() : value);
+        };
+        if (alert.getAlertLevel() != alertLevels[rule]) {
+            // 규칙 수준이 유형의 기본 수준과 다르면 제목도 규칙 수준으로 (예: 강풍 경보)
+            alert.setAlertTitle(String.format("%s %s %s", cityName,
+                    alertTypes[rule].getKoreanName(), alertLevels[rule].getKoreanName()));
+            alert.setAlertLevel(alertLevels[rule]);
+        }
+        alert.setThresholdValue(thresholds[rule]);
+        alert.setTriggerValue(value);
+        alert.setWeatherDataId(weatherData.getId());
+        return alert;
+    }
+}
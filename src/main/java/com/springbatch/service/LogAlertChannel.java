@@ -0,0 +1,25 @@
+package com.springbatch.service;
+
+import com.springbatch.entity.AlertOutbox;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 알림을 로그로 남기는 발송 채널 (실제 발송 채널 대신 사용하는 시뮬레이션)
+ */
+@Slf4j
+@Component
+public class LogAlertChannel implements AlertChannel {
+
+    @Override
+    public String getName() {
+        return "log";
+    }
+
+    @Override
+    public Mono<Void> send(AlertOutbox message) {
+        return Mono.fromRunnable(() ->
+                log.info("📢 ALERT NOTIFICATION: {} - {}", message.getTitle(), message.getMessage()));
+    }
+}
@@ -0,0 +1,139 @@
+package com.springbatch.service;
+
+import com.springbatch.entity.WeatherAlert;
+import com.springbatch.entity.WeatherData;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이벤트 버스에서 방금 저장된 날씨 데이터를 꺼내 바로 알림 규칙을 평가하는 컴포넌트
+ *
+ * 전용 스레드 하나가 큐에 쌓인 데이터를 최대 weather.alert.streaming.batch-size개씩 꺼내
+ * AlertRuleEngine.createAlerts()로 평가하고, 만든 알림을 발송 대기열과 함께 한 트랜잭션으로 저장합니다.
+ * 알림 배치 Job과 같은 규칙 / 중복 방지 인덱스를 사용하므로 같은 데이터로 알림이 두 번 만들어지지 않으며,
+ * 배치 Job은 실시간 평가가 놓친 데이터(큐가 가득 차 버려졌거나 저장에 실패한 경우)를 다시 평가하는 보정 용도로 남습니다.
+ * 중복 방지 인덱스의 자리는 저장 트랜잭션 안에서만 차지하고 롤백되면 되돌려지므로, 저장에 실패한 알림이 보정을 막지 않습니다.
+ *
+ * 수집부터 알림 저장까지의 지연 시간은 weather.alert.streaming.latency 지표로 기록됩니다.
+ */
+@Slf4j
+@Component
+public class RealtimeAlertEvaluator implements SmartLifecycle {
+
+    private final WeatherIngestEventBus weatherIngestEventBus;
+    private final AlertRuleEngine alertRuleEngine;
+    private final WeatherAlertStore weatherAlertStore;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer latency;
+
+    // 한 번에 꺼내 평가할 최대 데이터 수
+    @Value("${weather.alert.streaming.batch-size:100}")
+    private int batchSize;
+
+    // 큐가 비어 있을 때 한 번에 기다리는 시간 (종료 요청 확인 주기)
+    @Value("${weather.alert.streaming.poll-timeout-millis:500}")
+    private long pollTimeoutMillis;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public RealtimeAlertEvaluator(WeatherIngestEventBus weatherIngestEventBus,
+                                  AlertRuleEngine alertRuleEngine,
+                                  WeatherAlertStore weatherAlertStore,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry) {
+        this.weatherIngestEventBus = weatherIngestEventBus;
+        this.alertRuleEngine = alertRuleEngine;
+        this.weatherAlertStore = weatherAlertStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.latency = Timer.builder("weather.alert.streaming.latency").register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        if (!weatherIngestEventBus.isEnabled()) {
+            log.info("Realtime alert evaluation is disabled");
+            return;
+        }
+        running = true;
+        worker = new Thread(this::run, "realtime-alert-evaluator");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("Started realtime alert evaluation (batch size: {})", batchSize);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(pollTimeoutMillis * 2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            worker = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        List<WeatherData> buffer = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                if (weatherIngestEventBus.poll(buffer, batchSize, pollTimeoutMillis) > 0) {
+                    evaluate(buffer);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // 실패한 데이터는 다음 알림 배치 Job이 다시 평가함
+                log.error("Failed to evaluate {} weather data in realtime: {}", buffer.size(), e.getMessage());
+            } finally {
+                buffer.clear();
+            }
+        }
+    }
+
+    private void evaluate(List<WeatherData> weatherDataList) {
+        LocalDateTime now = LocalDateTime.now();
+        List<WeatherAlert> alerts = new ArrayList<>();
+        List<LocalDateTime> alertedCollectedAt = new ArrayList<>();
+        for (WeatherData weatherData : weatherDataList) {
+            List<WeatherAlert> created = alertRuleEngine.createAlerts(weatherData, now);
+            if (!created.isEmpty()) {
+                alerts.addAll(created);
+                alertedCollectedAt.add(weatherData.getCollectedAt());
+            }
+        }
+        if (alerts.isEmpty()) {
+            return;
+        }
+
+        List<WeatherAlert> saved = transactionTemplate.execute(status -> weatherAlertStore.saveWithOutbox(alerts));
+
+        LocalDateTime savedAt = LocalDateTime.now();
+        for (LocalDateTime collectedAt : alertedCollectedAt) {
+            if (collectedAt != null) {
+                latency.record(Duration.between(collectedAt, savedAt));
+            }
+        }
+        log.info("Saved {} realtime weather alerts from {} weather data", saved.size(), weatherDataList.size());
+    }
+}
@@ -0,0 +1,125 @@
+package com.springbatch.service;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 키별 Mono 결과를 TTL 동안 재사용하는 크기 제한 캐시
+ *
+ * - 적중(hit): 이미 받아온 응답이 TTL 안에 있으면 API를 다시 호출하지 않음
+ * - 합류(coalesce): 같은 키의 요청이 아직 진행 중이면 새로 호출하지 않고 진행 중인 Mono를 함께 구독
+ * - 미스(miss): 캐시에 없거나 만료되었으면 새로 호출
+ *
+ * 최대 크기를 넘으면 가장 오래 사용하지 않은 키부터 제거(LRU)하고,
+ * 오류나 빈 응답은 캐시하지 않으므로 다음 요청에서 다시 호출합니다.
+ */
+public class TtlMonoCache<K, V> {
+
+    private final Duration ttl;
+    private final long ttlNanos;
+    private final Map<K, Entry<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public TtlMonoCache(Duration ttl, int maxSize) {
+        this.ttl = ttl;
+        this.ttlNanos = ttl.toNanos();
+        // accessOrder=true: 조회할 때마다 가장 최근 위치로 옮겨 LRU 순서 유지
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 캐시된(또는 진행 중인) Mono를 반환하고, 없으면 loader로 새로 만들어 등록
+     */
+    public Mono<V> get(K key, Function<K, Mono<V>> loader) {
+        if (ttlNanos <= 0) {
+            misses.increment();
+            return loader.apply(key);
+        }
+
+        Entry<V> entry;
+        synchronized (entries) {
+            Entry<V> existing = entries.get(key);
+            if (existing != null && !existing.isExpired(System.nanoTime(), ttlNanos)) {
+                if (existing.isLoaded()) {
+                    hits.increment();
+                } else {
+                    coalesced.increment();
+                }
+                return existing.mono;
+            }
+
+            misses.increment();
+            entry = new Entry<>();
+            entry.mono = load(key, entry, loader);
+            entries.put(key, entry);
+        }
+        return entry.mono;
+    }
+
+    private Mono<V> load(K key, Entry<V> entry, Function<K, Mono<V>> loader) {
+        return loader.apply(key)
+                .doOnSuccess(value -> {
+                    if (value == null) {
+                        remove(key, entry);
+                    } else {
+                        entry.loadedAtNanos = System.nanoTime();
+                    }
+                })
+                .doOnError(error -> remove(key, entry))
+                // 성공한 값만 TTL 동안 보관하고, 오류/빈 응답은 구독자마다 다시 시도
+                .cache(value -> ttl, error -> Duration.ZERO, () -> Duration.ZERO);
+    }
+
+    private void remove(K key, Entry<V> entry) {
+        synchronized (entries) {
+            entries.remove(key, entry);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    private static final class Entry<V> {
+
+        private static final long NOT_LOADED = Long.MIN_VALUE;
+
+        private Mono<V> mono;
+        private volatile long loadedAtNanos = NOT_LOADED;
+
+        boolean isLoaded() {
+            return loadedAtNanos != NOT_LOADED;
+        }
+
+        boolean isExpired(long nowNanos, long ttlNanos) {
+            return isLoaded() && nowNanos - loadedAtNanos >= ttlNanos;
+        }
+    }
+}
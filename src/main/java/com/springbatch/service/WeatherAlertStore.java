@@ -0,0 +1,97 @@
+package com.springbatch.service;
+
+import com.springbatch.entity.AlertOutbox;
+import com.springbatch.entity.WeatherAlert;
+import com.springbatch.repository.AlertOutboxRepository;
+import com.springbatch.repository.WeatherAlertRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 새 알림을 저장하고 채널별 발송 대기열(alert_outbox)에 기록하는 서비스
+ *
+ * 알림 배치 Writer와 실시간 평가기가 함께 사용하며, 호출한 쪽의 트랜잭션 안에서 알림과 대기 항목을 함께 저장합니다.
+ * 저장 직전에 중복 방지 인덱스의 자리를 차지하므로(AlertSuppressionIndex.acquire()) 같은 청크나 동시에 저장하는
+ * 다른 트랜잭션의 같은 도시 / 유형 알림은 하나만 저장되고, 트랜잭션이 롤백되면 차지한 자리도 되돌려집니다.
+ * 이미 같은 날씨 데이터로 같은 유형의 알림이 저장되어 있으면 건너뛰므로, 워터마크 겹침 구간을 다시 평가하거나
+ * 실시간 평가기와 배치 Job이 같은 데이터를 평가해도 알림이 두 번 만들어지지 않습니다.
+ * 실제 발송은 AlertOutboxDispatcher가 별도로 수행합니다.
+ */
+@Slf4j
+@Service
+public class WeatherAlertStore {
+
+    @Autowired
+    private WeatherAlertRepository weatherAlertRepository;
+
+    @Autowired
+    private AlertOutboxRepository alertOutboxRepository;
+
+    @Autowired
+    private AlertSuppressionIndex alertSuppressionIndex;
+
+    // 새 알림마다 발송 대기 항목을 만들 채널 목록
+    @Value("${weather.alert.outbox.channels:log}")
+    private List<String> outboxChannels;
+
+    /**
+     * 아직 저장되지 않았고 중복 방지 인덱스를 통과한 알림과 발송 대기 항목을 저장
+     *
+     * @return 실제로 저장된 알림 목록
+     */
+    public List<WeatherAlert> saveWithOutbox(List<WeatherAlert> candidates) {
+        List<WeatherAlert> alerts = alertSuppressionIndex.acquire(withoutExisting(candidates));
+        if (alerts.isEmpty()) {
+            return alerts;
+        }
+        weatherAlertRepository.saveAll(alerts);
+
+        List<AlertOutbox> outbox = new ArrayList<>(alerts.size() * outboxChannels.size());
+        for (WeatherAlert alert : alerts) {
+            for (String channel : outboxChannels) {
+                outbox.add(AlertOutbox.forAlert(alert, channel));
+            }
+        }
+        alertOutboxRepository.saveAll(outbox);
+        return alerts;
+    }
+
+    /**
+     * 같은 날씨 데이터 / 알림 유형으로 이미 저장된 알림이 있는 후보를 제외
+     */
+    private List<WeatherAlert> withoutExisting(List<WeatherAlert> candidates) {
+        Set<Long> weatherDataIds = new HashSet<>();
+        for (WeatherAlert alert : candidates) {
+            if (alert.getWeatherDataId() != null) {
+                weatherDataIds.add(alert.getWeatherDataId());
+            }
+        }
+        if (weatherDataIds.isEmpty()) {
+            return candidates;
+        }
+
+        Set<String> existing = new HashSet<>();
+        for (Object[] row : weatherAlertRepository.findAlertTypesByWeatherDataIds(weatherDataIds)) {
+            existing.add(row[0] + ":" + row[1]);
+        }
+        if (existing.isEmpty()) {
+            return candidates;
+        }
+
+        List<WeatherAlert> remaining = new ArrayList<>(candidates.size());
+        for (WeatherAlert alert : candidates) {
+            if (!existing.contains(alert.getWeatherDataId() + ":" + alert.getAlertType())) {
+                remaining.add(alert);
+            }
+        }
+        log.debug("Skipped {} alerts already created from the same weather data", candidates.size() - remaining.size());
+        return remaining;
+    }
+}
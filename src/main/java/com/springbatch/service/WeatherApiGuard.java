@@ -0,0 +1,135 @@
+package com.springbatch.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 날씨 API 엔드포인트별 서킷 브레이커와 호출 제한기를 관리하는 컴포넌트
+ *
+ * 호출 순서: 서킷 브레이커(열려 있으면 즉시 실패) → 호출 제한기(토큰 + 동시 실행 한도) → 실제 호출
+ *
+ * 엔드포인트별 설정 (weather.api.resilience.{endpoint}.*, 없으면 weather.api.resilience.default.*):
+ * - rate-per-second / burst: 토큰 버킷 속도와 최대 적립량
+ * - initial-concurrency / min-concurrency / max-concurrency: AIMD 동시 실행 한도
+ * - failure-threshold / open-duration: 서킷 브레이커 연속 실패 수와 차단 시간
+ *
+ * 상태는 weather.api.limiter.* / weather.api.circuit.* 지표(endpoint 태그)로 조회할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class WeatherApiGuard {
+
+    private static final String PREFIX = "weather.api.resilience.";
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Guard> guards = new ConcurrentHashMap<>();
+
+    public WeatherApiGuard(Environment environment, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 엔드포인트의 서킷 브레이커와 호출 제한기를 거쳐 call 실행
+     */
+    public <T> Mono<T> execute(String endpoint, Supplier<Mono<T>> call) {
+        Guard guard = guards.computeIfAbsent(endpoint, this::createGuard);
+        return guard.circuitBreaker.execute(() -> guard.rateLimiter.execute(call))
+                .doOnError(error -> {
+                    if (error instanceof CircuitOpenException) {
+                        guard.rejected.increment();
+                    } else if (isThrottled(error)) {
+                        guard.throttled.increment();
+                    }
+                });
+    }
+
+    /**
+     * 엔드포인트의 서킷 브레이커 상태 (아직 호출하지 않았으면 CLOSED)
+     */
+    public CircuitBreaker.State getCircuitState(String endpoint) {
+        Guard guard = guards.get(endpoint);
+        return guard == null ? CircuitBreaker.State.CLOSED : guard.circuitBreaker.getState();
+    }
+
+    private Guard createGuard(String endpoint) {
+        AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter(
+                property(endpoint, "rate-per-second", Double.class, 10.0),
+                property(endpoint, "burst", Integer.class, 10),
+                property(endpoint, "initial-concurrency", Integer.class, 4),
+                property(endpoint, "min-concurrency", Integer.class, 1),
+                property(endpoint, "max-concurrency", Integer.class, 32),
+                WeatherApiGuard::isOverload);
+        CircuitBreaker circuitBreaker = new CircuitBreaker(
+                "weather-api-" + endpoint,
+                property(endpoint, "failure-threshold", Integer.class, 5),
+                property(endpoint, "open-duration", Duration.class, Duration.ofSeconds(30)),
+                WeatherApiGuard::isProviderFailure);
+
+        Gauge.builder("weather.api.limiter.concurrency.limit", rateLimiter, AdaptiveRateLimiter::getLimit)
+                .tag("endpoint", endpoint).register(meterRegistry);
+        Gauge.builder("weather.api.limiter.in.flight", rateLimiter, AdaptiveRateLimiter::getInFlight)
+                .tag("endpoint", endpoint).register(meterRegistry);
+        Gauge.builder("weather.api.limiter.tokens", rateLimiter, AdaptiveRateLimiter::getAvailableTokens)
+                .tag("endpoint", endpoint).register(meterRegistry);
+        // 0 = CLOSED, 1 = HALF_OPEN, 2 = OPEN
+        Gauge.builder("weather.api.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .tag("endpoint", endpoint).register(meterRegistry);
+        Counter throttled = Counter.builder("weather.api.limiter.throttled")
+                .tag("endpoint", endpoint).register(meterRegistry);
+        Counter rejected = Counter.builder("weather.api.circuit.rejected")
+                .tag("endpoint", endpoint).register(meterRegistry);
+
+        log.info("Created weather API guard for endpoint '{}' (limit: {}, state: {})",
+                endpoint, rateLimiter.getLimit(), circuitBreaker.getState());
+        return new Guard(rateLimiter, circuitBreaker, throttled, rejected);
+    }
+
+    private <T> T property(String endpoint, String name, Class<T> type, T defaultValue) {
+        T value = environment.getProperty(PREFIX + endpoint + "." + name, type);
+        if (value != null) {
+            return value;
+        }
+        return environment.getProperty(PREFIX + "default." + name, type, defaultValue);
+    }
+
+    /**
+     * 동시 실행 한도를 줄여야 하는 과부하 응답 (429 / 5xx / 타임아웃)
+     */
+    private static boolean isOverload(Throwable error) {
+        if (error instanceof WebClientResponseException responseError) {
+            return responseError.getStatusCode().value() == 429 || responseError.getStatusCode().is5xxServerError();
+        }
+        return error instanceof TimeoutException;
+    }
+
+    /**
+     * 서킷 브레이커가 장애로 집계하는 오류 (과부하 + 연결 실패)
+     */
+    private static boolean isProviderFailure(Throwable error) {
+        return isOverload(error) || error instanceof WebClientRequestException;
+    }
+
+    private static boolean isThrottled(Throwable error) {
+        return error instanceof WebClientResponseException responseError
+                && responseError.getStatusCode().value() == 429;
+    }
+
+    private record Guard(AdaptiveRateLimiter rateLimiter, CircuitBreaker circuitBreaker,
+                         Counter throttled, Counter rejected) {
+    }
+}
@@ -1,14 +1,28 @@
 package com.springbatch.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springbatch.dto.CityWeatherResult;
 import com.springbatch.dto.WeatherApiResponse;
+import com.springbatch.dto.WeatherGroupApiResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * OpenWeatherMap API와 연동하여 날씨 데이터를 수집하는 서비스
@@ -17,6 +31,8 @@ import java.util.Map;
  * - 도시별 현재 날씨 정보 조회
  * - 전국 주요 도시 날씨 데이터 일괄 수집
  * - API 호출 및 응답 처리
+ * - 도시별 응답 캐시 (TTL 동안 재사용, 동시 요청은 하나의 호출로 합침)
+ * - 엔드포인트별 호출 제한(토큰 버킷 + AIMD)과 서킷 브레이커 적용
  */
 @Slf4j
 @Service
@@ -28,59 +44,263 @@ public class WeatherApiService {
     @Value("${weather.api.key:demo_key}")
     private String apiKey;
     
-    // OpenWeatherMap API URL
-    private static final String API_URL = "https://api.openweathermap.org/data/2.5/weather";
-    
-    // 전국 주요 도시 목록 (도시명, 도시코드)
-    private static final Map<String, String> MAJOR_CITIES = Map.of(
-        "Seoul", "서울",
-        "Busan", "부산", 
-        "Incheon", "인천",
-        "Daegu", "대구",
-        "Daejeon", "대전",
-        "Gwangju", "광주",
-        "Ulsan", "울산",
-        "Suwon", "수원"
-    );
-    
-    public WeatherApiService(WebClient.Builder webClientBuilder) {
+    // 동시 수집 시 도시 하나당 응답 대기 시간 (느린 도시 하나가 청크 전체를 붙잡지 않도록)
+    @Value("${weather.api.timeout-millis:10000}")
+    private long timeoutMillis;
+    
+    // 엔드포인트별 호출 제한기와 서킷 브레이커
+    @Autowired
+    private WeatherApiGuard weatherApiGuard;
+    
+    // OpenWeatherMap API 기본 URL (현재 날씨: /weather, 여러 도시 그룹 조회: /group)
+    // weather.api.base-url로 바꿀 수 있음 (부하 테스트용 로컬 스텁 등)
+    public static final String API_URL = "https://api.openweathermap.org/data/2.5";
+    
+    // 그룹 조회 한 번에 요청할 수 있는 최대 도시 수 (OpenWeatherMap 제한)
+    public static final int MAX_GROUP_SIZE = 20;
+    
+    // API 호출 한 번의 클라이언트 측 소요 시간 지표 (endpoint, outcome 태그)
+    public static final String CLIENT_LATENCY_METRIC = "weather.api.client.latency";
+    
+    // 도시 카탈로그 (한글명 / OpenWeatherMap ID 조회, ID가 없는 도시는 도시별 조회로 대체)
+    @Autowired
+    private CityCatalogService cityCatalogService;
+    
+    // 도시별 현재 날씨 응답 캐시 (응답 JSON 원문을 보관하여 DTO / 스트리밍 변환 모두에 사용)
+    private final TtlMonoCache<String, byte[]> weatherCache;
+    
+    private final ObjectMapper objectMapper;
+    
+    private final MeterRegistry meterRegistry;
+    
+    public WeatherApiService(WebClient.Builder webClientBuilder,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${weather.api.cache.ttl:60s}") Duration cacheTtl,
+                             @Value("${weather.api.cache.max-size:1000}") int cacheMaxSize,
+                             @Value("${weather.api.base-url:" + API_URL + "}") String baseUrl) {
         this.webClient = webClientBuilder
-                .baseUrl(API_URL)
+                .baseUrl(baseUrl)
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(1024 * 1024)) // 1MB
                 .build();
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.weatherCache = new TtlMonoCache<>(cacheTtl, cacheMaxSize);
+        
+        // /actuator/metrics/weather.api.cache.requests?tag=result:hit 형태로 조회
+        FunctionCounter.builder("weather.api.cache.requests", weatherCache, TtlMonoCache::getHitCount)
+                .tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("weather.api.cache.requests", weatherCache, TtlMonoCache::getMissCount)
+                .tag("result", "miss").register(meterRegistry);
+        FunctionCounter.builder("weather.api.cache.requests", weatherCache, TtlMonoCache::getCoalescedCount)
+                .tag("result", "coalesced").register(meterRegistry);
+        Gauge.builder("weather.api.cache.size", weatherCache, TtlMonoCache::size).register(meterRegistry);
     }
     
     /**
      * 특정 도시의 현재 날씨 정보 조회
      * 
+     * TTL 안에 받아온 응답이 있으면 재사용하고,
+     * 같은 도시의 요청이 이미 진행 중이면 그 결과를 함께 받습니다.
+     * 
      * @param cityName 도시명 (영문)
      * @return 날씨 API 응답 데이터
      */
     public Mono<WeatherApiResponse> getCurrentWeather(String cityName) {
+        return getCurrentWeatherJson(cityName)
+                .flatMap(body -> Mono.fromCallable(() -> objectMapper.readValue(body, WeatherApiResponse.class)));
+    }
+    
+    /**
+     * 특정 도시의 현재 날씨 응답 JSON 원문 조회 (캐시 사용)
+     * WeatherDataConverter.convertFromJson()과 함께 사용하면 DTO를 만들지 않고 바로 엔티티로 변환됩니다.
+     * 
+     * @param cityName 도시명 (영문)
+     * @return 응답 본문 (UTF-8 JSON)
+     */
+    public Mono<byte[]> getCurrentWeatherJson(String cityName) {
+        return weatherCache.get(cityName, this::fetchCurrentWeather);
+    }
+    
+    /**
+     * 캐시 적중/미스/합류 횟수 (대시보드 및 로그용)
+     */
+    public Map<String, Long> getCacheStats() {
+        return Map.of(
+            "hit", weatherCache.getHitCount(),
+            "miss", weatherCache.getMissCount(),
+            "coalesced", weatherCache.getCoalescedCount(),
+            "size", (long) weatherCache.size()
+        );
+    }
+    
+    /**
+     * OpenWeatherMap API를 실제로 호출 (캐시 미스일 때만 실행)
+     */
+    private Mono<byte[]> fetchCurrentWeather(String cityName) {
         log.info("Fetching weather data for city: {}", cityName);
         
-        return webClient.get()
+        return timed("weather", weatherApiGuard.execute("weather", () -> webClient.get()
                 .uri(uriBuilder -> uriBuilder
+                        .path("/weather")
                         .queryParam("q", cityName + ",KR")  // 한국 도시로 제한
                         .queryParam("appid", apiKey)
                         .queryParam("units", "metric")      // 섭씨 온도 사용
                         .queryParam("lang", "kr")           // 한국어 설명
                         .build())
                 .retrieve()
-                .bodyToMono(WeatherApiResponse.class)
+                .bodyToMono(byte[].class)
+                .timeout(Duration.ofMillis(timeoutMillis))))  // 타임아웃도 과부하로 집계되도록 제한기 안에서 적용
                 .doOnSuccess(response -> log.info("Successfully fetched weather data for {}", cityName))
                 .doOnError(error -> log.error("Failed to fetch weather data for {}: {}", cityName, error.getMessage()));
     }
     
+    /**
+     * 여러 도시의 현재 날씨를 최대 concurrency 개씩 동시에 조회
+     * 
+     * 결과는 요청한 도시 순서대로 방출되며, 실패한 도시는 예외 대신 실패 결과로 포함됩니다.
+     * 
+     * @param cityNames 도시명 목록 (영문)
+     * @param concurrency 동시에 진행할 최대 요청 수
+     * @return 도시별 조회 결과 (요청 순서 유지)
+     */
+    public Flux<CityWeatherResult> getCurrentWeather(List<String> cityNames, int concurrency) {
+        return Flux.fromIterable(cityNames)
+                .flatMapSequential(this::getCityWeatherResult, Math.max(1, concurrency));
+    }
+    
+    /**
+     * 여러 도시의 현재 날씨를 그룹 조회로 묶어서 조회
+     * 
+     * 도시를 groupSize(최대 20)개씩 묶어 요청 하나로 받아온 뒤 도시별 결과로 다시 나눕니다.
+     * 그룹 응답에 빠진 도시나 실패한 그룹의 도시는 실패 결과로 포함되고,
+     * 도시 ID를 모르는 도시는 도시별 조회로 대체합니다.
+     * 
+     * @param cityNames 도시명 목록 (영문)
+     * @param groupSize 그룹 요청 하나에 담을 도시 수
+     * @param concurrency 동시에 진행할 최대 요청 수 (그룹 요청과 대체 도시별 요청 합계)
+     * @return 도시별 조회 결과 (요청 순서 유지)
+     */
+    public Flux<CityWeatherResult> getCurrentWeatherGrouped(List<String> cityNames, int groupSize, int concurrency) {
+        int size = Math.max(1, Math.min(groupSize, MAX_GROUP_SIZE));
+        return Flux.fromIterable(cityNames)
+                .buffer(size)
+                .flatMapSequential(this::fetchBatch, Math.max(1, concurrency))
+                .flatMapIterable(results -> results);
+    }
+    
+    /**
+     * 도시 묶음 하나를 조회 (ID가 있는 도시는 그룹 요청 한 번, 나머지는 도시별 요청)
+     * 
+     * 그룹 요청이 끝난 뒤 도시별 요청을 하나씩 순서대로 보내므로 묶음 하나가 동시에 보내는 요청은 항상 하나이고,
+     * 전체 동시 요청 수는 바깥 flatMapSequential의 concurrency를 넘지 않습니다.
+     */
+    private Mono<List<CityWeatherResult>> fetchBatch(List<String> cityNames) {
+        List<String> groupable = cityNames.stream().filter(cityName -> cityCatalogService.getOwmId(cityName) != null).toList();
+        Mono<Map<String, CityWeatherResult>> groupResults = groupable.isEmpty()
+                ? Mono.just(Map.of())
+                : fetchGroup(groupable);
+        
+        return groupResults.flatMap(results -> Flux.fromIterable(cityNames)
+                .concatMap(cityName -> results.containsKey(cityName)
+                        ? Mono.just(results.get(cityName))
+                        : getCityWeatherResult(cityName))
+                .collectList());
+    }
+    
+    /**
+     * 그룹 조회 API 호출 후 응답을 도시별 결과로 분리 (실패해도 예외 대신 실패 결과 반환)
+     */
+    private Mono<Map<String, CityWeatherResult>> fetchGroup(List<String> cityNames) {
+        String ids = cityNames.stream()
+                .map(cityName -> String.valueOf(cityCatalogService.getOwmId(cityName)))
+                .collect(Collectors.joining(","));
+        log.info("Fetching grouped weather data for {} cities: {}", cityNames.size(), cityNames);
+        
+        return timed("group", weatherApiGuard.execute("group", () -> webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/group")
+                        .queryParam("id", ids)
+                        .queryParam("appid", apiKey)
+                        .queryParam("units", "metric")
+                        .queryParam("lang", "kr")
+                        .build())
+                .retrieve()
+                .bodyToMono(WeatherGroupApiResponse.class)
+                .timeout(Duration.ofMillis(timeoutMillis))))
+                .map(response -> splitGroupResponse(cityNames, response))
+                .defaultIfEmpty(failAll(cityNames, "Empty group response"))
+                .onErrorResume(error -> {
+                    log.error("Failed to fetch grouped weather data for {}: {}", cityNames, error.getMessage());
+                    return Mono.just(failAll(cityNames, error.toString()));
+                });
+    }
+    
+    /**
+     * 호출 한 번의 클라이언트 측 소요 시간을 weather.api.client.latency 지표로 기록
+     * 호출 제한기 / 서킷 브레이커 대기, 동시 실행 제한 대기, 타임아웃까지 포함한 시간 (캐시 적중은 포함하지 않음)
+     */
+    private <T> Mono<T> timed(String endpoint, Mono<T> call) {
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            return call.doFinally(signal -> Timer.builder(CLIENT_LATENCY_METRIC)
+                    .tag("endpoint", endpoint)
+                    .tag("outcome", signal == SignalType.ON_COMPLETE ? "success"
+                            : signal == SignalType.ON_ERROR ? "error" : "cancelled")
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS));
+        });
+    }
+    
+    private Map<String, CityWeatherResult> splitGroupResponse(List<String> cityNames, WeatherGroupApiResponse response) {
+        Map<Long, WeatherApiResponse> byId = new HashMap<>();
+        if (response.getList() != null) {
+            for (WeatherApiResponse cityResponse : response.getList()) {
+                if (cityResponse.getId() != null) {
+                    byId.put(cityResponse.getId(), cityResponse);
+                }
+            }
+        }
+        
+        Map<String, CityWeatherResult> results = new HashMap<>();
+        for (String cityName : cityNames) {
+            WeatherApiResponse cityResponse = byId.get(cityCatalogService.getOwmId(cityName));
+            results.put(cityName, cityResponse != null
+                    ? CityWeatherResult.success(cityName, cityResponse)
+                    : CityWeatherResult.failure(cityName, "Missing from group response"));
+        }
+        return results;
+    }
+    
+    private Map<String, CityWeatherResult> failAll(List<String> cityNames, String error) {
+        Map<String, CityWeatherResult> results = new HashMap<>();
+        for (String cityName : cityNames) {
+            results.put(cityName, CityWeatherResult.failure(cityName, error));
+        }
+        return results;
+    }
+    
+    /**
+     * 도시 하나를 조회하여 성공/실패 결과로 변환 (캐시 사용)
+     */
+    private Mono<CityWeatherResult> getCityWeatherResult(String cityName) {
+        return getCurrentWeatherJson(cityName)
+                .map(body -> CityWeatherResult.success(cityName, body))
+                .defaultIfEmpty(CityWeatherResult.failure(cityName, "Empty response"))
+                .onErrorResume(error -> Mono.just(CityWeatherResult.failure(cityName, error.toString())));
+    }
+    
     /**
      * 전국 주요 도시의 날씨 정보 일괄 조회
      * 
      * @return 모든 도시의 날씨 데이터 리스트
      */
     public Mono<List<WeatherApiResponse>> getAllMajorCitiesWeather() {
-        log.info("Fetching weather data for all major cities: {}", MAJOR_CITIES.keySet());
+        Map<String, String> cities = cityCatalogService.getCityNames();
+        log.info("Fetching weather data for all catalog cities: {}", cities.size());
         
-        List<Mono<WeatherApiResponse>> weatherRequests = MAJOR_CITIES.keySet().stream()
+        List<Mono<WeatherApiResponse>> weatherRequests = cities.keySet().stream()
                 .map(this::getCurrentWeather)
                 .toList();
         
@@ -98,14 +318,14 @@ public class WeatherApiService {
      * 도시 코드(영문)를 한글명으로 변환
      */
     public String getCityNameInKorean(String englishCityName) {
-        return MAJOR_CITIES.getOrDefault(englishCityName, englishCityName);
+        return cityCatalogService.getCityName(englishCityName);
     }
     
     /**
-     * 지원하는 주요 도시 목록 반환
+     * 지원하는 도시 목록 반환 (도시 카탈로그의 수집 대상 도시)
      */
     public Map<String, String> getMajorCities() {
-        return MAJOR_CITIES;
+        return cityCatalogService.getCityNames();
     }
     
     /**
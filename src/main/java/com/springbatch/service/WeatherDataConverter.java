@@ -0,0 +1,133 @@
+package com.springbatch.service;
+
+import com.springbatch.dto.WeatherApiResponse;
+import com.springbatch.entity.WeatherData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * 날씨 API 응답을 WeatherData 엔티티로 변환하고 이상 기후를 판정하는 컴포넌트
+ * 
+ * 순차 수집(weatherProcessor)과 동시 수집(ConcurrentWeatherCollectionWriter)이 같은 변환 규칙을 사용합니다.
+ * 도시별 응답은 convertFromJson()으로 DTO 없이 바로 변환하고, 그룹 조회 응답은 DTO를 거쳐 변환합니다.
+ */
+@Slf4j
+@Component
+public class WeatherDataConverter {
+    
+    @Autowired
+    private WeatherApiService weatherApiService;
+    
+    // 전날 온도 조회용 도시별 최근 48시간 인덱스
+    @Autowired
+    private WeatherHistoryIndex weatherHistoryIndex;
+    
+    // DTO를 거치지 않는 스트리밍 JSON 디코더
+    private final WeatherJsonDecoder jsonDecoder = new WeatherJsonDecoder();
+    
+    /**
+     * WeatherApiResponse를 WeatherData 엔티티로 변환
+     */
+    public WeatherData convertToWeatherData(WeatherApiResponse response, String cityCode) {
+        WeatherData weatherData = new WeatherData();
+        applyCityInfo(weatherData, cityCode);
+        copyWeatherFields(response, weatherData);
+        return weatherData;
+    }
+    
+    /**
+     * 응답 JSON을 DTO 없이 스트리밍 파서로 바로 WeatherData 엔티티로 변환
+     */
+    public WeatherData convertFromJson(byte[] body, String cityCode) throws IOException {
+        WeatherData weatherData = jsonDecoder.decode(body);
+        applyCityInfo(weatherData, cityCode);
+        return weatherData;
+    }
+    
+    /**
+     * 도시 정보와 수집 시각 설정
+     */
+    private void applyCityInfo(WeatherData weatherData, String cityCode) {
+        LocalDateTime now = LocalDateTime.now();
+        weatherData.setCityCode(cityCode);
+        weatherData.setCityName(weatherApiService.getCityNameInKorean(cityCode));
+        weatherData.setCollectedAt(now);
+        weatherData.setWeatherTime(now);
+    }
+    
+    /**
+     * DTO의 날씨 필드를 WeatherData에 복사 (WeatherJsonDecoder가 채우는 필드와 동일)
+     */
+    public static void copyWeatherFields(WeatherApiResponse response, WeatherData weatherData) {
+        // 온도 정보
+        if (response.getMain() != null) {
+            weatherData.setTemperature(response.getMain().getTemp());
+            weatherData.setFeelsLike(response.getMain().getFeelsLike());
+            weatherData.setTempMin(response.getMain().getTempMin());
+            weatherData.setTempMax(response.getMain().getTempMax());
+            weatherData.setHumidity(response.getMain().getHumidity());
+            weatherData.setPressure(response.getMain().getPressure());
+        }
+        
+        // 날씨 상태
+        if (response.getWeather() != null && !response.getWeather().isEmpty()) {
+            WeatherApiResponse.Weather weather = response.getWeather().get(0);
+            weatherData.setWeatherMain(weather.getMain());
+            weatherData.setWeatherDescription(weather.getDescription());
+        }
+        
+        // 바람 정보
+        if (response.getWind() != null) {
+            weatherData.setWindSpeed(response.getWind().getSpeed());
+            weatherData.setWindDirection(response.getWind().getDeg());
+        }
+        
+        // 구름 정보
+        if (response.getClouds() != null) {
+            weatherData.setCloudiness(response.getClouds().getAll());
+        }
+        
+        // 강수량 정보
+        if (response.getRain() != null && response.getRain().getOneHour() != null) {
+            weatherData.setRainfall(response.getRain().getOneHour());
+        }
+        
+        // 적설량 정보
+        if (response.getSnow() != null && response.getSnow().getOneHour() != null) {
+            weatherData.setSnowfall(response.getSnow().getOneHour());
+        }
+        
+        // 가시거리
+        weatherData.setVisibility(response.getVisibility());
+    }
+    
+    /**
+     * 이상 기후 탐지 로직
+     * 전날 동시간 대비 온도 변화량을 계산하여 20도 이상 차이나면 이상 기후로 판단
+     * (전날 같은 시간 기록이 없으면 전날 가장 늦은 기록과 비교, 조회는 WeatherHistoryIndex에서 상수 시간)
+     */
+    public void detectAbnormalWeather(WeatherData currentData) {
+        try {
+            Double yesterdayTemperature = weatherHistoryIndex.findYesterdayTemperature(
+                    currentData.getCityCode(), currentData.getCollectedAt());
+            
+            if (yesterdayTemperature != null && currentData.getTemperature() != null) {
+                double temperatureChange = currentData.getTemperature() - yesterdayTemperature;
+                currentData.setTemperatureChange(temperatureChange);
+                
+                // 전날 대비 20도 이상 변화 시 이상 기후로 판단
+                if (Math.abs(temperatureChange) >= 20.0) {
+                    currentData.setIsAbnormal(true);
+                    log.warn("Abnormal weather detected in {}: Temperature changed by {:.1f}°C from yesterday", 
+                            currentData.getCityName(), temperatureChange);
+                }
+            }
+        } catch (Exception e) {
+            log.debug("Could not detect abnormal weather for {}: {}", currentData.getCityName(), e.getMessage());
+        }
+    }
+}
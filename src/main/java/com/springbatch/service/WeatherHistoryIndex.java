@@ -0,0 +1,147 @@
+package com.springbatch.service;
+
+import com.springbatch.entity.WeatherData;
+import com.springbatch.repository.WeatherDataRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이상 기후 판정을 위한 도시별 최근 48시간 온도 인덱스
+ *
+ * 도시마다 시간 단위 슬롯 48개짜리 링 버퍼를 두고 각 슬롯에 그 시간의 마지막 온도를 보관합니다.
+ * 수집 Step 시작 시 한 번의 쿼리로 채우고(beforeStep), 저장한 청크가 커밋될 때마다 recordAfterCommit()으로 갱신하므로
+ * 아이템마다 DB를 조회하지 않고 상수 시간에 전날 온도를 찾습니다.
+ */
+@Slf4j
+@Component
+public class WeatherHistoryIndex implements StepExecutionListener {
+
+    // 전날 하루 전체가 항상 포함되도록 48시간 보관
+    private static final int SLOT_COUNT = 48;
+
+    @Autowired
+    private WeatherDataRepository weatherDataRepository;
+
+    private final Map<String, CityHistory> histories = new ConcurrentHashMap<>();
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        warmUp(LocalDateTime.now());
+    }
+
+    /**
+     * now 기준 최근 48시간 기록으로 인덱스를 다시 채움
+     */
+    public void warmUp(LocalDateTime now) {
+        histories.clear();
+        List<Object[]> readings = weatherDataRepository.findTemperatureReadingsSince(now.minusHours(SLOT_COUNT - 1)
+                .withMinute(0).withSecond(0).withNano(0));
+        for (Object[] reading : readings) {
+            record((String) reading[0], (LocalDateTime) reading[1], (Double) reading[2]);
+        }
+        log.info("Warmed weather history index with {} readings for {} cities", readings.size(), histories.size());
+    }
+
+    /**
+     * 저장한 날씨 데이터를 인덱스에 반영 (진행 중인 트랜잭션이 있으면 커밋 후에 반영)
+     * 청크가 롤백되면 저장되지 않은 온도가 이후 아이템의 온도 변화 계산에 쓰이지 않음
+     */
+    public void recordAfterCommit(List<WeatherData> weatherDataList) {
+        if (weatherDataList.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<WeatherData> committed = List.copyOf(weatherDataList);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    committed.forEach(WeatherHistoryIndex.this::record);
+                }
+            });
+        } else {
+            weatherDataList.forEach(this::record);
+        }
+    }
+
+    /**
+     * 저장된 날씨 데이터를 인덱스에 반영
+     */
+    public void record(WeatherData weatherData) {
+        if (weatherData.getCityCode() != null && weatherData.getCollectedAt() != null
+                && weatherData.getTemperature() != null) {
+            record(weatherData.getCityCode(), weatherData.getCollectedAt(), weatherData.getTemperature());
+        }
+    }
+
+    private void record(String cityCode, LocalDateTime collectedAt, double temperature) {
+        histories.computeIfAbsent(cityCode, code -> new CityHistory()).put(epochHour(collectedAt), temperature);
+    }
+
+    /**
+     * 비교 기준이 되는 전날 온도
+     * 전날 같은 시간의 기록이 있으면 그 값을, 없으면 전날의 가장 늦은 기록을 반환 (없으면 null)
+     */
+    public Double findYesterdayTemperature(String cityCode, LocalDateTime now) {
+        CityHistory history = histories.get(cityCode);
+        if (history == null) {
+            return null;
+        }
+
+        Double sameHour = history.get(epochHour(now.minusDays(1)));
+        if (sameHour != null) {
+            return sameHour;
+        }
+
+        long yesterdayStart = epochHour(now.toLocalDate().minusDays(1).atStartOfDay());
+        for (long hour = yesterdayStart + 23; hour >= yesterdayStart; hour--) {
+            Double temperature = history.get(hour);
+            if (temperature != null) {
+                return temperature;
+            }
+        }
+        return null;
+    }
+
+    private static long epochHour(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) / 3600;
+    }
+
+    /**
+     * 시간 슬롯 링 버퍼 (슬롯 번호 = 에포크 시간 % 48, 다른 시간의 기록이 남아 있으면 비어 있는 것으로 간주)
+     */
+    private static final class CityHistory {
+
+        private final long[] hours = new long[SLOT_COUNT];
+        private final double[] temperatures = new double[SLOT_COUNT];
+
+        CityHistory() {
+            Arrays.fill(hours, Long.MIN_VALUE);
+        }
+
+        synchronized void put(long epochHour, double temperature) {
+            int slot = (int) Math.floorMod(epochHour, (long) SLOT_COUNT);
+            // 같은 시간의 기록은 더 늦게 들어온 값으로 덮어씀, 이미 더 최근 시간이 차지한 슬롯은 유지
+            if (hours[slot] <= epochHour) {
+                hours[slot] = epochHour;
+                temperatures[slot] = temperature;
+            }
+        }
+
+        synchronized Double get(long epochHour) {
+            int slot = (int) Math.floorMod(epochHour, (long) SLOT_COUNT);
+            return hours[slot] == epochHour ? temperatures[slot] : null;
+        }
+    }
+}
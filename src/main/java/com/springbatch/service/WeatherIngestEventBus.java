@@ -0,0 +1,106 @@
+package com.springbatch.service;
+
+import com.springbatch.entity.WeatherData;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 저장된 날씨 데이터를 실시간 알림 평가기로 넘기는 프로세스 내부 이벤트 버스
+ *
+ * 크기가 고정된 큐(weather.alert.streaming.capacity)를 사용하며,
+ * 큐가 가득 차면 발행하는 쪽(수집 Writer)이 publish-timeout만큼 기다리는 방식으로 속도를 맞춥니다.
+ * 그래도 자리가 나지 않으면 이벤트를 버리고 weather.alert.streaming.dropped 지표를 올립니다
+ * (버려진 데이터는 알림 배치 Job이 다음 실행에서 다시 평가함).
+ *
+ * 트랜잭션 안에서 발행하면 커밋된 뒤에만 큐에 넣으므로, 롤백된 데이터로 알림이 만들어지지 않습니다.
+ */
+@Slf4j
+@Component
+public class WeatherIngestEventBus {
+
+    private final boolean enabled;
+    private final BlockingQueue<WeatherData> queue;
+    private final long publishTimeoutMillis;
+    private final Counter published;
+    private final Counter dropped;
+
+    public WeatherIngestEventBus(@Value("${weather.alert.streaming.enabled:true}") boolean enabled,
+                                 @Value("${weather.alert.streaming.capacity:10000}") int capacity,
+                                 @Value("${weather.alert.streaming.publish-timeout-millis:100}") long publishTimeoutMillis,
+                                 MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.publishTimeoutMillis = publishTimeoutMillis;
+        this.published = Counter.builder("weather.alert.streaming.published").register(meterRegistry);
+        this.dropped = Counter.builder("weather.alert.streaming.dropped").register(meterRegistry);
+        Gauge.builder("weather.alert.streaming.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    /**
+     * 실시간 평가 사용 여부
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 저장된 날씨 데이터를 발행 (진행 중인 트랜잭션이 있으면 커밋 후에 발행)
+     */
+    public void publishAfterCommit(List<WeatherData> weatherDataList) {
+        if (!enabled || weatherDataList.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<WeatherData> committed = List.copyOf(weatherDataList);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(committed);
+                }
+            });
+        } else {
+            publish(weatherDataList);
+        }
+    }
+
+    private void publish(List<WeatherData> weatherDataList) {
+        for (WeatherData weatherData : weatherDataList) {
+            try {
+                if (queue.offer(weatherData, publishTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                    published.increment();
+                } else {
+                    dropped.increment();
+                    log.warn("Alert streaming queue is full, dropped weather data for {}", weatherData.getCityCode());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 이벤트가 올 때까지 기다렸다가 최대 maxEvents개를 꺼내 buffer에 담음
+     *
+     * @return 꺼낸 이벤트 수 (timeout 동안 없으면 0)
+     */
+    int poll(List<WeatherData> buffer, int maxEvents, long timeoutMillis) throws InterruptedException {
+        WeatherData first = queue.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return 0;
+        }
+        buffer.add(first);
+        return 1 + queue.drainTo(buffer, maxEvents - 1);
+    }
+}
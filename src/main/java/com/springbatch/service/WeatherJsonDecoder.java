@@ -0,0 +1,187 @@
+package com.springbatch.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.springbatch.entity.WeatherData;
+
+import java.io.IOException;
+
+/**
+ * OpenWeatherMap 현재 날씨 응답(JSON)을 Jackson 스트리밍 파서로 읽어 WeatherData에 바로 채우는 디코더
+ *
+ * WeatherApiResponse DTO 트리를 만들지 않고 필요한 필드만 토큰 단위로 읽으며,
+ * 나머지 객체/배열은 skipChildren()으로 건너뜁니다.
+ * 채우는 필드는 WeatherDataConverter.copyWeatherFields()와 같고,
+ * 도시 코드 / 이름 / 수집 시각은 호출한 쪽에서 설정합니다.
+ */
+public class WeatherJsonDecoder {
+
+    private final JsonFactory jsonFactory;
+
+    public WeatherJsonDecoder() {
+        this(new JsonFactory());
+    }
+
+    public WeatherJsonDecoder(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * 응답 본문 전체를 WeatherData로 변환
+     */
+    public WeatherData decode(byte[] body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Weather response is not a JSON object");
+            }
+            WeatherData weatherData = new WeatherData();
+            decodeInto(parser, weatherData);
+            return weatherData;
+        }
+    }
+
+    /**
+     * START_OBJECT에 위치한 파서에서 객체 하나를 읽어 weatherData에 채움 (END_OBJECT에서 끝남)
+     */
+    public void decodeInto(JsonParser parser, WeatherData weatherData) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "main" -> readMain(parser, value, weatherData);
+                case "weather" -> readWeather(parser, value, weatherData);
+                case "wind" -> readWind(parser, value, weatherData);
+                case "clouds" -> readClouds(parser, value, weatherData);
+                case "rain" -> weatherData.setRainfall(readOneHour(parser, value));
+                case "snow" -> weatherData.setSnowfall(readOneHour(parser, value));
+                case "visibility" -> weatherData.setVisibility(intValue(parser, value));
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private void readMain(JsonParser parser, JsonToken token, WeatherData weatherData) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "temp" -> weatherData.setTemperature(doubleValue(parser, value));
+                case "feels_like" -> weatherData.setFeelsLike(doubleValue(parser, value));
+                case "temp_min" -> weatherData.setTempMin(doubleValue(parser, value));
+                case "temp_max" -> weatherData.setTempMax(doubleValue(parser, value));
+                case "humidity" -> weatherData.setHumidity(intValue(parser, value));
+                case "pressure" -> weatherData.setPressure(intValue(parser, value));
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * weather 배열의 첫 번째 항목만 사용 (DTO 경로와 동일)
+     */
+    private void readWeather(JsonParser parser, JsonToken token, WeatherData weatherData) throws IOException {
+        if (token != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        boolean first = true;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (!first || parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            first = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "main" -> weatherData.setWeatherMain(textValue(parser, value));
+                    case "description" -> weatherData.setWeatherDescription(textValue(parser, value));
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    private void readWind(JsonParser parser, JsonToken token, WeatherData weatherData) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "speed" -> weatherData.setWindSpeed(doubleValue(parser, value));
+                case "deg" -> weatherData.setWindDirection(intValue(parser, value));
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private void readClouds(JsonParser parser, JsonToken token, WeatherData weatherData) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("all".equals(field)) {
+                weatherData.setCloudiness(intValue(parser, value));
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * rain / snow 객체의 "1h" 값 (없으면 null)
+     */
+    private Double readOneHour(JsonParser parser, JsonToken token) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        Double oneHour = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("1h".equals(field)) {
+                oneHour = doubleValue(parser, value);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return oneHour;
+    }
+
+    private Double doubleValue(JsonParser parser, JsonToken token) throws IOException {
+        if (token.isNumeric()) {
+            return parser.getDoubleValue();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private Integer intValue(JsonParser parser, JsonToken token) throws IOException {
+        if (token.isNumeric()) {
+            return parser.getValueAsInt();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private String textValue(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        parser.skipChildren();
+        return null;
+    }
+}
@@ -0,0 +1,170 @@
+package com.springbatch.batch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.NonTransientResourceException;
+import org.springframework.batch.item.file.FlatFileItemReader;
+import org.springframework.batch.item.file.mapping.PassThroughLineMapper;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 바이트 구간으로 나눠 읽은 모든 파티션의 합이 FlatFileItemReader로 한 번에 읽은 결과와 같은지 확인하는 테스트
+ *
+ * 모든 줄이 정확히 한 번만 읽히고 헤더는 첫 구간에서만 건너뛰는지를
+ * 구간 경계가 줄바꿈 위에 놓이는 경우, CRLF, 줄보다 구간이 많은 경우, 재시작까지 포함해 검증합니다.
+ */
+class ByteRangeLineItemReaderTest {
+
+    private static final int LINES = 12;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void everyGridSizeReadsEachLineExactlyOnce() throws Exception {
+        // 줄 길이가 모두 10바이트라 여러 gridSize에서 구간 경계가 줄바꿈 바로 위 / 바로 뒤에 놓임
+        Resource resource = write("lf.csv", fixedWidthLines(), "\n");
+        List<String> expected = readWithFlatFileReader(resource);
+
+        long size = resource.contentLength();
+        for (int gridSize = 1; gridSize <= size + 5; gridSize++) {
+            assertThat(readAllPartitions(resource, gridSize))
+                    .as("gridSize %d", gridSize)
+                    .containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void crlfLinesAreReadWithoutCarriageReturn() throws Exception {
+        Resource resource = write("crlf.csv", fixedWidthLines(), "\r\n");
+        List<String> expected = readWithFlatFileReader(resource);
+
+        for (int gridSize = 1; gridSize <= 20; gridSize++) {
+            List<String> lines = readAllPartitions(resource, gridSize);
+            assertThat(lines).as("gridSize %d", gridSize).containsExactlyElementsOf(expected);
+            assertThat(lines).noneMatch(line -> line.endsWith("\r"));
+        }
+    }
+
+    @Test
+    void moreRangesThanLinesStillReadsEachLineOnce() throws Exception {
+        Resource resource = write("short.csv", List.of("id,name", "1,a", "2,b"), "\n");
+
+        Map<String, ExecutionContext> partitions = new ByteRangePartitioner(new Resource[]{resource}).partition(100);
+
+        assertThat(partitions.size()).isLessThanOrEqualTo(3);
+        assertThat(readAllPartitions(resource, 100)).containsExactly("1,a", "2,b");
+    }
+
+    @Test
+    void restartContinuesFromSavedPosition() throws Exception {
+        Resource resource = write("restart.csv", fixedWidthLines(), "\n");
+        List<String> expected = readWithFlatFileReader(resource);
+
+        List<String> all = new ArrayList<>();
+        for (ExecutionContext partition : sortedPartitions(resource, 3)) {
+            ByteRangeLineItemReader<String> first = reader(resource, partition);
+            ExecutionContext saved = new ExecutionContext();
+            first.open(saved);
+            List<String> lines = new ArrayList<>();
+            lines.add(first.read());
+            lines.add(first.read());
+            first.update(saved);
+            first.close();
+
+            ByteRangeLineItemReader<String> restarted = reader(resource, partition);
+            restarted.open(saved);
+            for (String line = restarted.read(); line != null; line = restarted.read()) {
+                lines.add(line);
+            }
+            restarted.update(saved);
+            restarted.close();
+
+            // 재시작 후에도 줄 번호가 이어짐
+            assertThat(saved.getInt("reader.lineNumber")).isEqualTo(lines.size());
+            all.addAll(lines);
+        }
+        assertThat(all).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void failsInsteadOfSpinningWhenFileEndsBeforeRange() throws Exception {
+        Resource resource = write("truncated.csv", fixedWidthLines(), "\n");
+        long size = resource.contentLength();
+        ByteRangeLineItemReader<String> reader = new ByteRangeLineItemReader<>(
+                "reader", resource, size - 10, size + 100, 1, new PassThroughLineMapper());
+        reader.open(new ExecutionContext());
+
+        assertThat(reader.read()).isNotNull();
+        assertThatThrownBy(reader::read).isInstanceOf(NonTransientResourceException.class);
+        reader.close();
+    }
+
+    private List<String> readAllPartitions(Resource resource, int gridSize) throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (ExecutionContext partition : sortedPartitions(resource, gridSize)) {
+            ByteRangeLineItemReader<String> reader = reader(resource, partition);
+            reader.open(new ExecutionContext());
+            for (String line = reader.read(); line != null; line = reader.read()) {
+                lines.add(line);
+            }
+            reader.close();
+        }
+        return lines;
+    }
+
+    private static List<ExecutionContext> sortedPartitions(Resource resource, int gridSize) {
+        return new ByteRangePartitioner(new Resource[]{resource}).partition(gridSize).values().stream()
+                .sorted(Comparator.comparingLong(context -> context.getLong(ByteRangePartitioner.RANGE_START_KEY)))
+                .toList();
+    }
+
+    private static ByteRangeLineItemReader<String> reader(Resource resource, ExecutionContext partition) {
+        return new ByteRangeLineItemReader<>("reader", resource,
+                partition.getLong(ByteRangePartitioner.RANGE_START_KEY),
+                partition.getLong(ByteRangePartitioner.RANGE_END_KEY),
+                1, new PassThroughLineMapper());
+    }
+
+    private static List<String> readWithFlatFileReader(Resource resource) throws Exception {
+        FlatFileItemReader<String> reader = new FlatFileItemReader<>();
+        reader.setResource(resource);
+        reader.setLinesToSkip(1);
+        reader.setLineMapper(new PassThroughLineMapper());
+        reader.open(new ExecutionContext());
+        List<String> lines = new ArrayList<>();
+        for (String line = reader.read(); line != null; line = reader.read()) {
+            lines.add(line);
+        }
+        reader.close();
+        return lines;
+    }
+
+    private static List<String> fixedWidthLines() {
+        List<String> lines = new ArrayList<>();
+        lines.add("id,name,xx");
+        for (int i = 1; i <= LINES; i++) {
+            lines.add(String.format("%04d,row%02d", i, i));
+        }
+        return lines;
+    }
+
+    private Resource write(String fileName, List<String> lines, String separator) throws Exception {
+        Path file = tempDir.resolve(fileName);
+        Files.writeString(file, String.join(separator, lines) + separator, StandardCharsets.UTF_8);
+        return new FileSystemResource(file);
+    }
+}
@@ -0,0 +1,58 @@
+package com.springbatch.batch;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 중복 제거기가 "필터에 없으면 새 이메일"로 믿을 수 있도록 Bloom 필터에 거짓 음성이 없는지 확인하는 테스트
+ */
+class EmailBloomFilterTest {
+
+    private static final int EMAILS = 10_000;
+
+    @Test
+    void neverReportsAddedEmailAsMissing() {
+        EmailBloomFilter filter = EmailBloomFilter.create(EMAILS, 0.01);
+        IntStream.range(0, EMAILS).forEach(i -> filter.put(email(i)));
+
+        assertThat(IntStream.range(0, EMAILS)).allMatch(i -> filter.mightContain(email(i)));
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        EmailBloomFilter filter = EmailBloomFilter.create(EMAILS, 0.01);
+        IntStream.range(0, EMAILS).forEach(i -> filter.put(email(i)));
+
+        long falsePositives = IntStream.range(EMAILS, EMAILS * 2)
+                .filter(i -> filter.mightContain(email(i)))
+                .count();
+        // 목표 1%, 여유를 두고 3% 미만
+        assertThat(falsePositives).isLessThan(EMAILS * 3 / 100);
+    }
+
+    @Test
+    void restoresSameBitsFromFile() throws Exception {
+        EmailBloomFilter filter = EmailBloomFilter.create(EMAILS, 0.01);
+        IntStream.range(0, EMAILS).forEach(i -> filter.put(email(i)));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        filter.writeTo(new DataOutputStream(bytes));
+        EmailBloomFilter restored = EmailBloomFilter.readFrom(
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertThat(restored.getBitCount()).isEqualTo(filter.getBitCount());
+        assertThat(IntStream.range(0, EMAILS * 2))
+                .allMatch(i -> restored.mightContain(email(i)) == filter.mightContain(email(i)));
+    }
+
+    private static String email(int i) {
+        return "user" + i + "@example.com";
+    }
+}
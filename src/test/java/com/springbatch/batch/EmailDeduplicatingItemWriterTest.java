@@ -0,0 +1,144 @@
+package com.springbatch.batch;
+
+import com.springbatch.entity.Person;
+import com.springbatch.repository.PersonRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이메일 중복 제거 Writer 테스트
+ *
+ * - 필터 파일이 없으면 기존 person 이메일로 필터를 만들어 이미 저장된 이메일을 걸러내는지
+ * - 두 청크(파티션)가 같은 이메일을 동시에 처리할 때 하나만 저장되는지
+ * - 앞뒤 공백 / 대소문자가 달라도 같은 이메일로 보는지
+ * - 두 임포트가 동시에 실행되어도 서로의 처리 중 이메일을 지우지 않고 중복 건수를 따로 세는지
+ */
+@SpringBootTest(properties = {
+        "batch.person.dedup.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:dedup-test"
+})
+class EmailDeduplicatingItemWriterTest {
+
+    @TempDir
+    static Path tempDir;
+
+    @DynamicPropertySource
+    static void filterFile(DynamicPropertyRegistry registry) {
+        registry.add("batch.person.dedup.filter-file", () -> tempDir.resolve("person-email-bloom.bin").toString());
+    }
+
+    @Autowired
+    private PersonEmailDeduplicator deduplicator;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void removesExistingAndConcurrentDuplicates() throws Exception {
+        // 필터 파일이 만들어지기 전에 이미 저장된 이메일
+        personRepository.save(new Person("OLD", "USER", "existing@example.com"));
+        deduplicator.beforeStep(MetaDataInstanceFactory.createStepExecution());
+
+        EmailDeduplicatingItemWriter writer = new EmailDeduplicatingItemWriter(
+                new PersonBulkInsertItemWriter(dataSource), deduplicator);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            write(writer, List.of(
+                    new Person("A", "A", " Existing@Example.com "),
+                    new Person("B", "B", "shared@example.com"),
+                    new Person("C", "C", "SHARED@example.com")));
+
+            // 첫 청크가 커밋되기 전에 다른 파티션 스레드가 같은 이메일을 처리
+            CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(inner ->
+                    write(writer, List.of(new Person("D", "D", "shared@example.com"))))).join();
+        });
+
+        // 커밋된 뒤 다시 들어온 이메일은 필터 + DB 확인으로 걸러짐
+        transactionTemplate.executeWithoutResult(status ->
+                write(writer, List.of(new Person("E", "E", "shared@example.com"))));
+
+        assertThat(personRepository.findExistingEmails(List.of("existing@example.com", "shared@example.com")))
+                .containsExactlyInAnyOrder("existing@example.com", "shared@example.com");
+        assertThat(new JdbcTemplate(dataSource).queryForObject(
+                "SELECT COUNT(*) FROM person WHERE email IN ('existing@example.com', 'shared@example.com')", Long.class))
+                .isEqualTo(2);
+    }
+
+    @Test
+    void concurrentRunsShareClaimsAndCountSeparately() {
+        StepExecution first = stepExecution(101L, 1001L);
+        StepExecution second = stepExecution(102L, 1002L);
+        deduplicator.beforeStep(first);
+
+        EmailDeduplicatingItemWriter writer = new EmailDeduplicatingItemWriter(
+                new PersonBulkInsertItemWriter(dataSource), deduplicator);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            inStep(first, () -> write(writer, List.of(
+                    new Person("F", "F", "first-run@example.com"),
+                    new Person("G", "G", "First-Run@example.com"))));
+
+            // 첫 실행의 청크가 커밋되기 전에 두 번째 실행이 시작되어도 처리 중 이메일은 그대로 남음
+            deduplicator.beforeStep(second);
+            CompletableFuture.runAsync(() -> inStep(second, () -> transactionTemplate.executeWithoutResult(inner ->
+                    write(writer, List.of(new Person("H", "H", "first-run@example.com")))))).join();
+        });
+        deduplicator.afterStep(second);
+        deduplicator.afterStep(first);
+
+        assertThat(first.getExecutionContext().getLong(PersonEmailDeduplicator.DUPLICATE_COUNT_KEY)).isEqualTo(1);
+        assertThat(second.getExecutionContext().getLong(PersonEmailDeduplicator.DUPLICATE_COUNT_KEY)).isEqualTo(1);
+        assertThat(new JdbcTemplate(dataSource).queryForObject(
+                "SELECT COUNT(*) FROM person WHERE email = 'first-run@example.com'", Long.class))
+                .isEqualTo(1);
+    }
+
+    private static StepExecution stepExecution(Long jobExecutionId, Long stepExecutionId) {
+        JobExecution jobExecution = MetaDataInstanceFactory.createJobExecution("importPersonJob", 1L, jobExecutionId);
+        return MetaDataInstanceFactory.createStepExecution(jobExecution, "importStep", stepExecutionId);
+    }
+
+    private static void inStep(StepExecution stepExecution, Runnable action) {
+        StepSynchronizationManager.register(stepExecution);
+        try {
+            action.run();
+        } finally {
+            StepSynchronizationManager.close();
+        }
+    }
+
+    private static void write(EmailDeduplicatingItemWriter writer, List<Person> persons) {
+        try {
+            writer.write(new Chunk<>(persons));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
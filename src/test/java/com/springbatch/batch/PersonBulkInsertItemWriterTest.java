@@ -0,0 +1,66 @@
+package com.springbatch.batch;
+
+import com.springbatch.entity.Person;
+import com.springbatch.repository.PersonRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 벌크 INSERT Writer가 Hibernate pooled 옵티마이저와 같은 ID 블록을 사용하는지 확인하는 테스트
+ *
+ * 행마다 NEXT VALUE FOR를 호출하면 ID가 50씩 건너뛰므로 블록 경계 수 검증에서 실패합니다.
+ */
+@SpringBootTest
+class PersonBulkInsertItemWriterTest {
+
+    private static final int ROWS = 120;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Test
+    void allocatesPooledIdsThatDoNotCollideWithHibernate() throws Exception {
+        PersonBulkInsertItemWriter writer = new PersonBulkInsertItemWriter(dataSource);
+
+        List<Person> bulk = new ArrayList<>(persons("bulk-a", ROWS));
+        writer.write(new Chunk<>(bulk));
+        List<Person> jpa = personRepository.saveAll(persons("jpa", ROWS));
+        List<Person> moreBulk = persons("bulk-b", ROWS);
+        writer.write(new Chunk<>(moreBulk));
+        bulk.addAll(moreBulk);
+
+        List<Long> bulkIds = bulk.stream().map(Person::getId).toList();
+        long blockBreaks = IntStream.range(1, ROWS)
+                .filter(i -> bulkIds.get(i) - bulkIds.get(i - 1) != 1)
+                .count();
+        // 50개 블록 안에서는 연속된 ID (120행 = 블록 경계 최대 3곳)
+        assertThat(blockBreaks).isLessThanOrEqualTo(3);
+
+        List<Long> allIds = new ArrayList<>(bulkIds);
+        jpa.forEach(person -> allIds.add(person.getId()));
+        assertThat(allIds).doesNotHaveDuplicates();
+
+        List<Long> storedIds = new JdbcTemplate(dataSource).queryForList(
+                "SELECT id FROM person WHERE email LIKE 'bulk-%@example.com'", Long.class);
+        assertThat(storedIds).containsExactlyInAnyOrderElementsOf(bulkIds);
+    }
+
+    private static List<Person> persons(String prefix, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Person("First" + i, "Last" + i, prefix + "-" + i + "@example.com"))
+                .toList();
+    }
+}
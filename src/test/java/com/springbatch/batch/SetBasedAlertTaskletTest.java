@@ -0,0 +1,158 @@
+package com.springbatch.batch;
+
+import com.springbatch.entity.AlertLevel;
+import com.springbatch.entity.AlertMetric;
+import com.springbatch.entity.AlertOperator;
+import com.springbatch.entity.AlertRule;
+import com.springbatch.entity.AlertType;
+import com.springbatch.entity.WeatherAlert;
+import com.springbatch.entity.WeatherData;
+import com.springbatch.repository.AlertRuleRepository;
+import com.springbatch.repository.WeatherAlertRepository;
+import com.springbatch.repository.WeatherDataRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * alertMode=sql로 generateWeatherAlertsJob을 실행하여 집합 단위 SQL이 Java 경로와 같은 알림을 만드는지 확인하는 테스트
+ *
+ * - 유형마다 도시별로 가장 높은 수준의 알림 하나만 생성
+ * - 억제 기간 안에 미해제 동일 알림이 있는 도시는 제외
+ * - 같은 날씨 데이터로 같은 유형의 알림이 이미 있으면 제외 (다시 실행해도 (weather_data_id, 유형)이 중복되지 않음)
+ * - 새 알림마다 채널별 발송 대기 항목 생성, 생성한 알림 수가 writeCount로 기록
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sql-alert-test",
+        "weather.alert.streaming.enabled=false",
+        "weather.alert.outbox.enabled=false",
+        "weather.alert.outbox.channels=log,email",
+        "weather.alert.suppression-window=1h"
+})
+class SetBasedAlertTaskletTest {
+
+    @Autowired
+    private JobLauncher jobLauncher;
+
+    @Autowired
+    @Qualifier("generateWeatherAlertsJob")
+    private Job generateWeatherAlertsJob;
+
+    @Autowired
+    private AlertRuleRepository alertRuleRepository;
+
+    @Autowired
+    private WeatherDataRepository weatherDataRepository;
+
+    @Autowired
+    private WeatherAlertRepository weatherAlertRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void createsOneAlertPerCityAtHighestLevel() throws Exception {
+        alertRuleRepository.deleteAll();
+        alertRuleRepository.saveAll(List.of(
+                rule(AlertLevel.WARNING, 35.0),
+                rule(AlertLevel.ADVISORY, 33.0)));
+
+        LocalDateTime now = LocalDateTime.now();
+        WeatherData seoulHot = weatherDataRepository.save(reading("Seoul", 36.0, now.minusMinutes(30)));
+        weatherDataRepository.save(reading("Seoul", 34.0, now.minusMinutes(20)));
+        // 다음 실행의 워터마크 겹침 구간(10분)에 다시 읽히는 데이터
+        WeatherData busan = weatherDataRepository.save(reading("Busan", 33.5, now.minusMinutes(2)));
+        weatherDataRepository.save(reading("Incheon", 20.0, now.minusMinutes(20)));
+        weatherDataRepository.save(reading("Daegu", 37.0, now.minusMinutes(20)));
+        WeatherData gwangju = weatherDataRepository.save(reading("Gwangju", 36.0, now.minusMinutes(20)));
+
+        // 억제 기간 안의 미해제 알림 (Daegu는 제외되어야 함)
+        weatherAlertRepository.save(existingAlert("Daegu", null, now.minusMinutes(10)));
+        // 억제 기간은 지났지만 같은 날씨 데이터로 이미 만든 알림 (Gwangju는 제외되어야 함)
+        weatherAlertRepository.save(existingAlert("Gwangju", gwangju.getId(), now.minusHours(3)));
+
+        JobExecution first = runSqlMode();
+
+        assertThat(first.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(writeCount(first)).isEqualTo(2);
+
+        Long stepExecutionId = first.getStepExecutions().iterator().next().getId();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        List<Map<String, Object>> created = jdbcTemplate.queryForList(
+                "SELECT city_code, CAST(alert_level AS VARCHAR) AS alert_level, weather_data_id FROM weather_alerts " +
+                "WHERE step_execution_id = ? ORDER BY city_code", stepExecutionId);
+        assertThat(created).hasSize(2);
+        assertThat(created.get(0))
+                .containsEntry("CITY_CODE", "Busan")
+                .containsEntry("ALERT_LEVEL", AlertLevel.ADVISORY.name())
+                .containsEntry("WEATHER_DATA_ID", busan.getId());
+        assertThat(created.get(1))
+                .containsEntry("CITY_CODE", "Seoul")
+                .containsEntry("ALERT_LEVEL", AlertLevel.WARNING.name())
+                .containsEntry("WEATHER_DATA_ID", seoulHot.getId());
+
+        // 새 알림마다 채널(log, email)별 발송 대기 항목
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM alert_outbox o JOIN weather_alerts a ON a.id = o.alert_id " +
+                "WHERE a.step_execution_id = ?", Long.class, stepExecutionId)).isEqualTo(4);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM alert_outbox", Long.class)).isEqualTo(4);
+
+        // 알림이 해제되어 억제 기간이 적용되지 않아도, 겹침 구간을 다시 읽어 같은 알림을 만들지 않음
+        jdbcTemplate.update("UPDATE weather_alerts SET is_resolved = TRUE");
+        JobExecution second = runSqlMode();
+        assertThat(second.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(writeCount(second)).isZero();
+
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT weather_data_id FROM weather_alerts WHERE weather_data_id IS NOT NULL " +
+                "GROUP BY weather_data_id, alert_type HAVING COUNT(*) > 1", Long.class)).isEmpty();
+        assertThat(weatherAlertRepository.count()).isEqualTo(4);
+    }
+
+    private JobExecution runSqlMode() throws Exception {
+        return jobLauncher.run(generateWeatherAlertsJob, new JobParametersBuilder()
+                .addLong("time", System.nanoTime())
+                .addString("alertMode", "sql")
+                .toJobParameters());
+    }
+
+    private static long writeCount(JobExecution execution) {
+        return execution.getStepExecutions().stream().mapToLong(StepExecution::getWriteCount).sum();
+    }
+
+    private static AlertRule rule(AlertLevel level, double threshold) {
+        AlertRule rule = new AlertRule();
+        rule.setAlertType(AlertType.HEAT_WAVE);
+        rule.setAlertLevel(level);
+        rule.setMetric(AlertMetric.TEMPERATURE);
+        rule.setOperator(AlertOperator.GREATER_OR_EQUAL);
+        rule.setThreshold(threshold);
+        return rule;
+    }
+
+    private static WeatherData reading(String cityCode, double temperature, LocalDateTime collectedAt) {
+        return new WeatherData(cityCode, cityCode, temperature, "Clear", collectedAt);
+    }
+
+    private static WeatherAlert existingAlert(String cityCode, Long weatherDataId, LocalDateTime alertTime) {
+        WeatherAlert alert = WeatherAlert.createHeatWaveAlert(cityCode, cityCode, 36.0);
+        alert.setWeatherDataId(weatherDataId);
+        alert.setAlertTime(alertTime);
+        return alert;
+    }
+}
@@ -0,0 +1,154 @@
+package com.springbatch.load;
+
+import com.springbatch.service.WeatherApiService;
+import com.springbatch.stub.WeatherApiStubServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import com.springbatch.stub.WeatherApiStubServer.LatencyDistribution;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 스텁 API를 상대로 collectWeatherDataJob을 실행하여 처리량과 지연 시간 백분위수를 측정하는 부하 테스트
+ *
+ * 기본 test 태스크에서는 제외되며 다음처럼 실행합니다 (모든 값은 선택):
+ * ./gradlew loadTest -Dload.cities=100000 -Dload.mode=concurrent -Dload.concurrency=64
+ *     -Dload.latency.median=80 -Dload.latency.sigma=0.5 -Dload.errorRate=0.01 -Dload.throttleRate=0.02
+ *     -Dload.payloadBytes=0
+ *
+ * 지연 시간 백분위수는 클라이언트 측에서 호출마다 기록한 weather.api.client.latency 지표로 보고합니다
+ * (호출 제한기 / 서킷 브레이커 대기, 동시 실행 제한 대기, 타임아웃 포함).
+ * 스텁 서버가 잰 처리 시간(주입한 지연)은 비교용으로 함께 출력합니다.
+ */
+@Tag("load")
+@SpringBootTest(properties = {
+        "spring.main.allow-bean-definition-overriding=true",
+        "weather.api.key=load-test",
+        "weather.api.cache.ttl=0s",
+        "weather.api.resilience.default.rate-per-second=1000000",
+        "weather.api.resilience.default.burst=100000",
+        "weather.api.resilience.default.max-concurrency=1024",
+        "logging.level.com.springbatch=WARN"
+})
+class WeatherCollectionLoadTest {
+
+    private static final int CITIES = Integer.getInteger("load.cities", 10_000);
+    private static final String MODE = System.getProperty("load.mode", "concurrent");
+    private static final long CONCURRENCY = Long.getLong("load.concurrency", 64);
+
+    private static final WeatherApiStubServer STUB = startStub();
+
+    @Autowired
+    private JobLauncher jobLauncher;
+
+    @Autowired
+    @Qualifier("collectWeatherDataJob")
+    private Job collectWeatherDataJob;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private static WeatherApiStubServer startStub() {
+        try {
+            return new WeatherApiStubServer()
+                    .latency(LatencyDistribution.logNormal(
+                            Double.parseDouble(System.getProperty("load.latency.median", "50")),
+                            Double.parseDouble(System.getProperty("load.latency.sigma", "0.5"))))
+                    .errorRate(Double.parseDouble(System.getProperty("load.errorRate", "0")))
+                    .throttleRate(Double.parseDouble(System.getProperty("load.throttleRate", "0")))
+                    .payloadPaddingBytes(Integer.getInteger("load.payloadBytes", 0));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @DynamicPropertySource
+    static void stubProperties(DynamicPropertyRegistry registry) {
+        registry.add("weather.api.base-url", STUB::baseUrl);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.close();
+    }
+
+    /**
+     * 기본 도시 목록 대신 City0 ~ City{n-1} 합성 도시를 읽는 Reader
+     */
+    @TestConfiguration
+    static class SyntheticCityConfig {
+
+        @Bean
+        @StepScope
+        public ItemReader<String> cityReader() {
+            AtomicInteger next = new AtomicInteger();
+            return () -> {
+                int index = next.getAndIncrement();
+                return index < CITIES ? "City" + index : null;
+            };
+        }
+    }
+
+    @Test
+    void collectSyntheticCities() throws Exception {
+        long start = System.nanoTime();
+        JobExecution execution = jobLauncher.run(collectWeatherDataJob, new JobParametersBuilder()
+                .addLong("time", System.currentTimeMillis())
+                .addString("collectionMode", MODE)
+                .addLong("concurrency", CONCURRENCY)
+                .toJobParameters());
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        long written = execution.getStepExecutions().stream().mapToLong(StepExecution::getWriteCount).sum();
+        double citiesPerSecond = CITIES * 1000.0 / Math.max(1, elapsed.toMillis());
+
+        System.out.printf("%n=== Weather collection load test ===%n");
+        System.out.printf("mode=%s cities=%d concurrency=%d status=%s exit=%s%n",
+                MODE, CITIES, CONCURRENCY, execution.getStatus(), execution.getExitStatus().getExitCode());
+        System.out.printf("elapsed=%d ms throughput=%.1f cities/s written=%d%n",
+                elapsed.toMillis(), citiesPerSecond, written);
+        System.out.printf("stub requests=%d errors=%d throttled=%d maxInFlight=%d%n",
+                STUB.getRequestCount(), STUB.getErrorCount(), STUB.getThrottleCount(), STUB.getMaxInFlight());
+        for (Timer timer : meterRegistry.find(WeatherApiService.CLIENT_LATENCY_METRIC).timers()) {
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            StringBuilder percentiles = new StringBuilder();
+            for (ValueAtPercentile value : snapshot.percentileValues()) {
+                percentiles.append(String.format(" p%.0f=%.0f ms", value.percentile() * 100, value.value(TimeUnit.MILLISECONDS)));
+            }
+            System.out.printf("client latency endpoint=%s outcome=%s count=%d%s max=%.0f ms%n",
+                    timer.getId().getTag("endpoint"), timer.getId().getTag("outcome"), snapshot.count(),
+                    percentiles, snapshot.max(TimeUnit.MILLISECONDS));
+        }
+        System.out.printf("stub latency (server side) p50=%d ms p95=%d ms p99=%d ms max=%d ms%n",
+                STUB.latencyPercentile(50), STUB.latencyPercentile(95), STUB.latencyPercentile(99),
+                STUB.latencyPercentile(100));
+
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+    }
+}
@@ -0,0 +1,89 @@
+package com.springbatch.repository;
+
+import com.springbatch.entity.Person;
+import com.springbatch.entity.WeatherAlert;
+import com.springbatch.entity.WeatherData;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시퀀스 ID + hibernate.jdbc.batch_size 설정으로 청크 저장이 JDBC 배치로 묶이는지 확인하는 테스트
+ *
+ * IDENTITY 전략으로 되돌리거나 batch_size 설정이 빠지면 행마다 INSERT 문이 준비되어 실패합니다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class JdbcBatchingTest {
+
+    // hibernate.jdbc.batch_size, 시퀀스 allocationSize와 같은 크기의 청크
+    private static final int CHUNK_SIZE = 50;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private WeatherDataRepository weatherDataRepository;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private WeatherAlertRepository weatherAlertRepository;
+
+    @Test
+    void savingChunkUsesBatchedInserts() {
+        Statistics statistics = clearedStatistics();
+
+        List<WeatherData> chunk = IntStream.range(0, CHUNK_SIZE)
+                .mapToObj(i -> new WeatherData("서울", "Seoul", 20.0 + i, "Clear", LocalDateTime.now()))
+                .toList();
+        weatherDataRepository.saveAll(chunk);
+
+        assertBatched(statistics);
+    }
+
+    @Test
+    void savingPersonChunkUsesBatchedInserts() {
+        Statistics statistics = clearedStatistics();
+
+        List<Person> chunk = IntStream.range(0, CHUNK_SIZE)
+                .mapToObj(i -> new Person("First" + i, "Last" + i, "batching" + i + "@example.com"))
+                .toList();
+        personRepository.saveAll(chunk);
+
+        assertBatched(statistics);
+    }
+
+    @Test
+    void savingAlertChunkUsesBatchedInserts() {
+        Statistics statistics = clearedStatistics();
+
+        List<WeatherAlert> chunk = IntStream.range(0, CHUNK_SIZE)
+                .mapToObj(i -> WeatherAlert.createHeatWaveAlert("Seoul", "서울", 35.0 + i))
+                .toList();
+        weatherAlertRepository.saveAll(chunk);
+
+        assertBatched(statistics);
+    }
+
+    private Statistics clearedStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private static void assertBatched(Statistics statistics) {
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(CHUNK_SIZE);
+        // INSERT 배치 1회 + 시퀀스 조회(최초 할당 시 최대 2회)
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+}
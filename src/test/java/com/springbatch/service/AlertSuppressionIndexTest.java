@@ -0,0 +1,151 @@
+package com.springbatch.service;
+
+import com.springbatch.entity.AlertType;
+import com.springbatch.entity.WeatherAlert;
+import com.springbatch.repository.WeatherAlertRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 중복 방지 인덱스의 자리 차지 / 기록 / 롤백 복원 / warmUp 병합 동작 테스트
+ */
+class AlertSuppressionIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 7, 1, 12, 0);
+
+    private final WeatherAlertRepository weatherAlertRepository = mock(WeatherAlertRepository.class);
+    private AlertSuppressionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new AlertSuppressionIndex();
+        ReflectionTestUtils.setField(index, "weatherAlertRepository", weatherAlertRepository);
+        ReflectionTestUtils.setField(index, "suppressionWindow", Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void acquirePassesOneAlertPerCityAndTypeInChunk() {
+        WeatherAlert first = alert("Seoul", AlertType.HEAT_WAVE, NOW);
+        WeatherAlert sameKey = alert("Seoul", AlertType.HEAT_WAVE, NOW);
+        WeatherAlert otherType = alert("Seoul", AlertType.HEAVY_RAIN, NOW);
+        WeatherAlert otherCity = alert("Busan", AlertType.HEAT_WAVE, NOW);
+
+        List<WeatherAlert> acquired = index.acquire(List.of(first, sameKey, otherType, otherCity));
+
+        assertThat(acquired).containsExactly(first, otherType, otherCity);
+        assertThat(index.isSuppressed("Seoul", AlertType.HEAT_WAVE, NOW.plusMinutes(30))).isTrue();
+    }
+
+    @Test
+    void rollbackRestoresPreviousSlot() {
+        LocalDateTime previous = NOW.minusMinutes(90);
+        index.acquire(List.of(alert("Seoul", AlertType.HEAT_WAVE, previous)));
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertThat(index.acquire(List.of(alert("Seoul", AlertType.HEAT_WAVE, NOW)))).hasSize(1);
+        assertThat(index.isSuppressed("Seoul", AlertType.HEAT_WAVE, NOW.plusMinutes(30))).isTrue();
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // 저장되지 않은 알림은 억제하지 않고, 이전에 기록된 알림 시각으로 돌아감
+        assertThat(index.isSuppressed("Seoul", AlertType.HEAT_WAVE, NOW.plusMinutes(30))).isFalse();
+        assertThat(index.isSuppressed("Seoul", AlertType.HEAT_WAVE, previous.plusMinutes(30))).isTrue();
+    }
+
+    @Test
+    void commitKeepsAcquiredSlot() {
+        TransactionSynchronizationManager.initSynchronization();
+        index.acquire(List.of(alert("Seoul", AlertType.HEAT_WAVE, NOW)));
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(index.isSuppressed("Seoul", AlertType.HEAT_WAVE, NOW.plusMinutes(30))).isTrue();
+    }
+
+    @Test
+    void rollbackLeavesSlotTakenByLaterAlert() {
+        TransactionSynchronizationManager.initSynchronization();
+        index.acquire(List.of(alert("Seoul", AlertType.HEAT_WAVE, NOW)));
+
+        // 롤백 전에 다른 트랜잭션(다른 스레드)이 억제 기간 이후의 알림으로 자리를 차지
+        LocalDateTime later = NOW.plusMinutes(90);
+        CompletableFuture.runAsync(() -> index.acquire(List.of(alert("Seoul", AlertType.HEAT_WAVE, later)))).join();
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(index.isSuppressed("Seoul", AlertType.HEAT_WAVE, later.plusMinutes(30))).isTrue();
+    }
+
+    @Test
+    void recordMergesToLaterTime() {
+        index.record(List.of(alert("Seoul", AlertType.HEAT_WAVE, NOW)));
+        index.record(List.of(alert("Seoul", AlertType.HEAT_WAVE, NOW.minusMinutes(30))));
+
+        // 더 이른 시각으로 되돌아가지 않음
+        assertThat(index.isSuppressed("Seoul", AlertType.HEAT_WAVE, NOW.plusMinutes(50))).isTrue();
+
+        index.record(List.of(alert("Seoul", AlertType.HEAT_WAVE, NOW.plusMinutes(30))));
+        assertThat(index.isSuppressed("Seoul", AlertType.HEAT_WAVE, NOW.plusMinutes(80))).isTrue();
+    }
+
+    @Test
+    void warmUpMergesWithExistingSlots() {
+        index.acquire(List.of(alert("Seoul", AlertType.HEAT_WAVE, NOW)));
+        when(weatherAlertRepository.findLastAlertTimesSince(any())).thenReturn(List.of(
+                new Object[]{"Seoul", AlertType.HEAT_WAVE, NOW.minusMinutes(20)},
+                new Object[]{"Busan", AlertType.COLD_WAVE, NOW.minusMinutes(10)}));
+
+        index.warmUp(NOW);
+
+        // 진행 중인 예약(더 늦은 시각)은 DB 값으로 덮어쓰지 않고, DB에만 있는 키는 추가됨
+        assertThat(index.isSuppressed("Seoul", AlertType.HEAT_WAVE, NOW.plusMinutes(50))).isTrue();
+        assertThat(index.isSuppressed("Busan", AlertType.COLD_WAVE, NOW)).isTrue();
+    }
+
+    @Test
+    void releaseResolvedBeforeDropsOnlyOlderSlots() {
+        index.record(List.of(
+                alert("Seoul", AlertType.HEAT_WAVE, NOW.minusMinutes(40)),
+                alert("Busan", AlertType.HEAT_WAVE, NOW.minusMinutes(10))));
+
+        index.releaseResolvedBefore(NOW.minusMinutes(30));
+
+        assertThat(index.isSuppressed("Seoul", AlertType.HEAT_WAVE, NOW)).isFalse();
+        assertThat(index.isSuppressed("Busan", AlertType.HEAT_WAVE, NOW)).isTrue();
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private static WeatherAlert alert(String cityCode, AlertType alertType, LocalDateTime alertTime) {
+        WeatherAlert alert = new WeatherAlert();
+        alert.setCityCode(cityCode);
+        alert.setAlertType(alertType);
+        alert.setAlertTime(alertTime);
+        return alert;
+    }
+}
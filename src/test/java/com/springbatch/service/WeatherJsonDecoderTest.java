@@ -0,0 +1,40 @@
+package com.springbatch.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springbatch.dto.WeatherApiResponse;
+import com.springbatch.entity.WeatherData;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스트리밍 디코더가 기존 DTO 경로(ObjectMapper + copyWeatherFields)와 같은 WeatherData를 만드는지 확인하는 테스트
+ */
+class WeatherJsonDecoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final WeatherJsonDecoder decoder = new WeatherJsonDecoder();
+
+    @Test
+    void decodesSameFieldsAsDtoPath() throws Exception {
+        byte[] json = ("{\"coord\":{\"lon\":126.97,\"lat\":37.56},"
+                + "\"weather\":[{\"id\":600,\"main\":\"Snow\",\"description\":\"눈\"},{\"id\":701,\"main\":\"Mist\"}],"
+                + "\"main\":{\"temp\":-3.5,\"feels_like\":-8.1,\"temp_min\":-4,\"temp_max\":-2.2,\"pressure\":1020,\"humidity\":85},"
+                + "\"visibility\":2000,\"wind\":{\"speed\":5.1,\"deg\":320,\"gust\":9.8},"
+                + "\"snow\":{\"1h\":1.25,\"3h\":3.0},\"clouds\":{\"all\":100},"
+                + "\"sys\":{\"country\":\"KR\"},\"id\":1835848,\"name\":\"Seoul\",\"cod\":200}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        WeatherData expected = new WeatherData();
+        WeatherDataConverter.copyWeatherFields(objectMapper.readValue(json, WeatherApiResponse.class), expected);
+
+        WeatherData actual = decoder.decode(json);
+
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+        assertThat(actual.getWeatherMain()).isEqualTo("Snow");
+        assertThat(actual.getSnowfall()).isEqualTo(1.25);
+        assertThat(actual.getRainfall()).isNull();
+    }
+}
@@ -0,0 +1,251 @@
+package com.springbatch.stub;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * OpenWeatherMap /weather, /group 엔드포인트를 흉내 내는 테스트용 내장 HTTP 스텁
+ *
+ * weather.api.base-url을 baseUrl()로 지정하면 API 할당량을 쓰지 않고 수집 Job을 실행할 수 있습니다.
+ * - 지연 시간: 고정 / 균등 분포 / 로그 정규 분포 중 선택
+ * - errorRate 비율로 500, throttleRate 비율로 429(Retry-After: 1) 응답
+ * - payloadPaddingBytes 만큼 응답에 무시되는 필드를 붙여 응답 크기 조절
+ *
+ * 요청마다 서버 쪽 처리 시간(주입한 지연 포함)을 기록해 백분위수를 계산합니다.
+ */
+public class WeatherApiStubServer implements AutoCloseable {
+
+    /**
+     * 요청 하나의 지연 시간(ms)을 만들어 내는 분포
+     */
+    public interface LatencyDistribution {
+        long nextMillis();
+
+        static LatencyDistribution fixed(long millis) {
+            return () -> millis;
+        }
+
+        static LatencyDistribution uniform(long minMillis, long maxMillis) {
+            return () -> ThreadLocalRandom.current().nextLong(minMillis, maxMillis + 1);
+        }
+
+        /**
+         * 중앙값 medianMillis, 꼬리 두께 sigma인 로그 정규 분포 (실제 API처럼 가끔 긴 지연)
+         */
+        static LatencyDistribution logNormal(double medianMillis, double sigma) {
+            return () -> Math.round(medianMillis * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+        }
+    }
+
+    // 기록할 수 있는 최대 지연 시간 (이보다 긴 요청은 마지막 칸에 집계)
+    private static final int MAX_RECORDED_MILLIS = 60_000;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private volatile LatencyDistribution latency = LatencyDistribution.fixed(0);
+    private volatile double errorRate;
+    private volatile double throttleRate;
+    private volatile int payloadPaddingBytes;
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong errorCount = new AtomicLong();
+    private final AtomicLong throttleCount = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicLongArray latencyHistogram = new AtomicLongArray(MAX_RECORDED_MILLIS + 1);
+
+    public WeatherApiStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        // 지연은 sleep으로 주입하므로 동시 요청 수만큼 스레드가 필요
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/weather", this::handleWeather);
+        server.createContext("/group", this::handleGroup);
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public WeatherApiStubServer latency(LatencyDistribution latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    public WeatherApiStubServer errorRate(double errorRate) {
+        this.errorRate = errorRate;
+        return this;
+    }
+
+    public WeatherApiStubServer throttleRate(double throttleRate) {
+        this.throttleRate = throttleRate;
+        return this;
+    }
+
+    public WeatherApiStubServer payloadPaddingBytes(int payloadPaddingBytes) {
+        this.payloadPaddingBytes = payloadPaddingBytes;
+        return this;
+    }
+
+    private void handleWeather(HttpExchange exchange) throws IOException {
+        handle(exchange, query -> {
+            String city = query.getOrDefault("q", "Unknown").split(",")[0];
+            return cityJson(city, Math.abs(city.hashCode()));
+        });
+    }
+
+    private void handleGroup(HttpExchange exchange) throws IOException {
+        handle(exchange, query -> {
+            String[] ids = query.getOrDefault("id", "").split(",");
+            StringBuilder json = new StringBuilder("{\"cnt\":").append(ids.length).append(",\"list\":[");
+            for (int i = 0; i < ids.length; i++) {
+                if (i > 0) {
+                    json.append(',');
+                }
+                json.append(cityJson("City" + ids[i], Long.parseLong(ids[i].trim())));
+            }
+            return json.append("]}").toString();
+        });
+    }
+
+    private void handle(HttpExchange exchange, Function<Map<String, String>, String> body) throws IOException {
+        long start = System.nanoTime();
+        requestCount.incrementAndGet();
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            long delay = Math.max(0, latency.nextMillis());
+            if (delay > 0) {
+                Thread.sleep(delay);
+            }
+
+            double roll = ThreadLocalRandom.current().nextDouble();
+            if (roll < throttleRate) {
+                throttleCount.incrementAndGet();
+                exchange.getResponseHeaders().add("Retry-After", "1");
+                send(exchange, 429, "{\"cod\":429,\"message\":\"stub throttled\"}");
+            } else if (roll < throttleRate + errorRate) {
+                errorCount.incrementAndGet();
+                send(exchange, 500, "{\"cod\":500,\"message\":\"stub error\"}");
+            } else {
+                send(exchange, 200, body.apply(parseQuery(exchange.getRequestURI())));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            send(exchange, 503, "{\"cod\":503}");
+        } finally {
+            inFlight.decrementAndGet();
+            int millis = (int) Math.min(MAX_RECORDED_MILLIS, (System.nanoTime() - start) / 1_000_000);
+            latencyHistogram.incrementAndGet(millis);
+        }
+    }
+
+    private String cityJson(String city, long id) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder json = new StringBuilder(256 + payloadPaddingBytes)
+                .append("{\"weather\":[{\"id\":800,\"main\":\"Clear\",\"description\":\"맑음\",\"icon\":\"01d\"}],")
+                .append("\"main\":{\"temp\":").append(Math.round(random.nextDouble(-10, 35) * 100) / 100.0)
+                .append(",\"feels_like\":15.2,\"temp_min\":12.1,\"temp_max\":19.8,\"pressure\":1013,\"humidity\":")
+                .append(random.nextInt(20, 100)).append("},")
+                .append("\"visibility\":10000,\"wind\":{\"speed\":").append(Math.round(random.nextDouble(0, 20) * 10) / 10.0)
+                .append(",\"deg\":").append(random.nextInt(0, 360)).append("},")
+                .append("\"clouds\":{\"all\":").append(random.nextInt(0, 101)).append("},");
+        if (payloadPaddingBytes > 0) {
+            char[] padding = new char[payloadPaddingBytes];
+            Arrays.fill(padding, 'x');
+            json.append("\"padding\":\"").append(padding).append("\",");
+        }
+        return json.append("\"dt\":").append(System.currentTimeMillis() / 1000)
+                .append(",\"id\":").append(id)
+                .append(",\"name\":\"").append(city).append("\",\"cod\":200}")
+                .toString();
+    }
+
+    private void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private Map<String, String> parseQuery(URI uri) {
+        Map<String, String> query = new HashMap<>();
+        String raw = uri.getRawQuery();
+        if (raw == null) {
+            return query;
+        }
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                query.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+
+    /**
+     * 기록된 서버 처리 시간의 백분위수 (ms, percentile은 0~100)
+     */
+    public long latencyPercentile(double percentile) {
+        long total = 0;
+        for (int i = 0; i < latencyHistogram.length(); i++) {
+            total += latencyHistogram.get(i);
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < latencyHistogram.length(); i++) {
+            seen += latencyHistogram.get(i);
+            if (seen >= target) {
+                return i;
+            }
+        }
+        return MAX_RECORDED_MILLIS;
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    public long getErrorCount() {
+        return errorCount.get();
+    }
+
+    public long getThrottleCount() {
+        return throttleCount.get();
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}